@@ -0,0 +1,59 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.client.Client;
+import seedu.address.testutil.ClientBuilder;
+
+/**
+ * Builds the data and takes the measurements shared by the benchmarks.
+ */
+public class BenchmarkUtil {
+
+    private static final String[] ADDRESSES = {"Blk 30 Geylang Street 29, #06-40",
+        "Blk 436 Serangoon Gardens Street 26", "Blk 11 Ang Mo Kio Street 74, #11-04",
+        "Blk 47 Tampines Street 20, #17-35", "123, Jurong West Ave 6, #08-111", "311, Clementi Ave 2, #02-25",
+        "10th street", "Little India", "Woodlands Ave 1", "Punggol Field, #12-01"};
+    private static final String[] CURRENT_PLANS = {"Prudential PRUwealth", "AIA Pro Lifetime Protector",
+        "Great Eastern Supreme Health", "NTUC Income Enhanced IncomeShield", "Manulife Signature Life", ""};
+    private static final String[] TAGS = {"friends", "colleagues", "family", "neighbours", "classmates"};
+
+    /**
+     * Returns {@code count} distinct clients, with ids from 0, whose optional fields repeat the way they do in a
+     * real address book: a handful of addresses, plans and risk appetites, and a last met date within a year.
+     */
+    public static List<Client> generateClients(int count) {
+        List<Client> clients = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            clients.add(new ClientBuilder()
+                    .withClientId(String.valueOf(i))
+                    .withName("Client " + i)
+                    .withPhone(String.valueOf(80000000 + i))
+                    .withEmail("client" + i + "@example.com")
+                    .withAddress(ADDRESSES[i % ADDRESSES.length])
+                    .withRiskAppetite(String.valueOf(i % 5 + 1))
+                    .withDisposableIncome(String.valueOf(i % 20 * 500))
+                    .withCurrentPlan(CURRENT_PLANS[i % CURRENT_PLANS.length])
+                    .withLastMet(String.format("%02d-%02d-2020", i % 28 + 1, i / 28 % 12 + 1))
+                    .withTags(TAGS[i % TAGS.length])
+                    .build());
+        }
+        return clients;
+    }
+
+    /**
+     * Returns the bytes of heap in use once the unreachable objects are collected, as far as the garbage collector
+     * can be made to collect them.
+     */
+    public static long usedHeapAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        long usedHeap = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(100);
+            usedHeap = Math.min(usedHeap, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return usedHeap;
+    }
+}
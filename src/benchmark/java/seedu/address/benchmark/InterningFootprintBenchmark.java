@@ -0,0 +1,91 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.BenchmarkUtil.generateClients;
+import static seedu.address.benchmark.BenchmarkUtil.usedHeapAfterGc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.ClientBuilder;
+
+/**
+ * Measures the heap kept by the clients of an address book read from its file, with the optional client fields
+ * interned as they are when read, and with an instance of every field per client, as they were before interning.
+ * <p>
+ * Arguments: [CLIENT_COUNT], 10000 by default.
+ */
+public class InterningFootprintBenchmark {
+
+    private static final int RUNS = 3;
+
+    public static void main(String[] args) throws Exception {
+        int clientCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        Path file = Files.createTempFile("addressbook", ".json");
+        try {
+            AddressBook addressBook = new AddressBook();
+            generateClients(clientCount).forEach(addressBook::addClient);
+            new JsonAddressBookStorage(file).saveAddressBook(addressBook);
+
+            long internedBytes = Long.MAX_VALUE;
+            long notInternedBytes = Long.MAX_VALUE;
+            for (int i = 0; i < RUNS; i++) {
+                internedBytes = Math.min(internedBytes, measureRetainedHeap(() -> readClients(file)));
+                notInternedBytes = Math.min(notInternedBytes,
+                        measureRetainedHeap(() -> withOwnFieldInstances(readClients(file))));
+            }
+
+            long savedBytes = notInternedBytes - internedBytes;
+            System.out.printf("%d clients, least heap kept over %d runs:%n", clientCount, RUNS);
+            System.out.printf("  interned fields:           %,d bytes (%,d bytes per client)%n", internedBytes,
+                    internedBytes / clientCount);
+            System.out.printf("  field instance per client: %,d bytes (%,d bytes per client)%n", notInternedBytes,
+                    notInternedBytes / clientCount);
+            System.out.printf("  saved by interning:        %,d bytes (%,d bytes per 10k clients)%n", savedBytes,
+                    savedBytes * 10_000 / clientCount);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Returns the bytes of heap kept by the clients {@code loader} returns, once garbage is collected.
+     */
+    private static long measureRetainedHeap(Callable<List<Client>> loader) throws Exception {
+        long before = usedHeapAfterGc();
+        List<Client> clients = loader.call();
+        long after = usedHeapAfterGc();
+        // the clients are used after the measurement, so that they are kept until then
+        if (clients.isEmpty()) {
+            throw new IllegalStateException("No clients were read");
+        }
+        return after - before;
+    }
+
+    private static List<Client> readClients(Path file) throws Exception {
+        // only the clients are kept, not the indexes of the address book
+        return List.copyOf(new JsonAddressBookStorage(file).readAddressBook().get().getClientList());
+    }
+
+    /**
+     * Returns copies of {@code clients} with an instance of every optional field, and of its text, per client.
+     */
+    private static List<Client> withOwnFieldInstances(List<Client> clients) {
+        List<Client> copies = new ArrayList<>(clients.size());
+        for (Client client : clients) {
+            copies.add(new ClientBuilder(client)
+                    .withAddress(new String(client.getAddress().value))
+                    .withRiskAppetite(new String(client.getRiskAppetite().value))
+                    .withDisposableIncome(new String(client.getDisposableIncome().value))
+                    .withCurrentPlan(new String(client.getCurrentPlan().value))
+                    .withLastMet(new String(client.getLastMet().dateInString))
+                    .build());
+        }
+        return copies;
+    }
+}
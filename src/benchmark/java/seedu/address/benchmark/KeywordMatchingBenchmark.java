@@ -0,0 +1,58 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.ALL_PREFIXES;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import com.sun.management.ThreadMXBean;
+
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientContainsKeywordsPredicate;
+
+/**
+ * Measures the time and the bytes allocated per call of {@code ClientContainsKeywordsPredicate#test}, once the JIT has
+ * compiled it. The allocation depends on the escape analysis of the JIT, so it is only meaningful without agents such
+ * as coverage tools attached.
+ * <p>
+ * Arguments: [KEYWORDS], "n/client e/example a/street c/pru" by default.
+ */
+public class KeywordMatchingBenchmark {
+
+    private static final int CLIENT_COUNT = 1_000;
+    private static final int ROUNDS = 200;
+
+    public static void main(String[] args) {
+        String keywords = args.length > 0 ? String.join(" ", args) : "n/client e/example a/street c/pru";
+        ClientContainsKeywordsPredicate predicate =
+                new ClientContainsKeywordsPredicate(ArgumentTokenizer.tokenize(" " + keywords, ALL_PREFIXES));
+        List<Client> clients = BenchmarkUtil.generateClients(CLIENT_COUNT);
+
+        // warm up, so that test() is compiled before it is measured
+        int matches = testAll(predicate, clients, ROUNDS);
+
+        ThreadMXBean threadMxBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMxBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        matches += testAll(predicate, clients, ROUNDS);
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadMxBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        long calls = (long) CLIENT_COUNT * ROUNDS;
+        System.out.printf("Keywords \"%s\", %,d calls, %,d matches:%n", keywords, calls, matches);
+        System.out.printf("  %.1f ns per call%n", (double) elapsed / calls);
+        System.out.printf("  %.2f bytes allocated per call%n", (double) allocated / calls);
+    }
+
+    private static int testAll(ClientContainsKeywordsPredicate predicate, List<Client> clients, int rounds) {
+        int matches = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < clients.size(); i++) {
+                matches += predicate.test(clients.get(i)) ? 1 : 0;
+            }
+        }
+        return matches;
+    }
+}
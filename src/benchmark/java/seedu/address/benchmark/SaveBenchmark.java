@@ -0,0 +1,83 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.BenchmarkUtil.generateClients;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Constructor;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.sun.management.ThreadMXBean;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures the time and the bytes allocated to save a whole address book to a new file: as it was saved before, by
+ * serializing every client into a {@code JsonSerializableAddressBook} written as one string, and as it is saved now,
+ * by streaming the clients into a temporary file that is forced to the disk and renamed over the file, both pretty
+ * printed and compact.
+ * <p>
+ * Arguments: [CLIENT_COUNT], 10000 by default.
+ */
+public class SaveBenchmark {
+
+    private static final int WARM_UP_SAVES = 3;
+    private static final int SAVES = 5;
+
+    private static final ThreadMXBean threadMxBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) throws Exception {
+        int clientCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        AddressBook addressBook = new AddressBook();
+        generateClients(clientCount).forEach(addressBook::addClient);
+
+        // the serializable address book is private to the storage package, so it is created through reflection
+        Constructor<?> serializableAddressBook = Class.forName("seedu.address.storage.JsonSerializableAddressBook")
+                .getDeclaredConstructor(ReadOnlyAddressBook.class);
+        serializableAddressBook.setAccessible(true);
+
+        Path directory = Files.createTempDirectory("addressbook");
+        Path file = directory.resolve("addressbook.json");
+        try {
+            System.out.printf("%,d clients, best of %d saves:%n", clientCount, SAVES);
+            measure("serialized string", () -> JsonUtil.saveJsonFile(serializableAddressBook.newInstance(addressBook),
+                    file));
+            measure("streamed pretty", () -> new JsonAddressBookStorage(file, true).saveAddressBook(addressBook));
+            measure("streamed compact", () -> new JsonAddressBookStorage(file, false).saveAddressBook(addressBook));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory.resolve("addressbook.json.journal"));
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static void measure(String name, Save save) throws Exception {
+        for (int i = 0; i < WARM_UP_SAVES; i++) {
+            save.run();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long bestTime = Long.MAX_VALUE;
+        long leastAllocated = Long.MAX_VALUE;
+        for (int i = 0; i < SAVES; i++) {
+            long allocatedBefore = threadMxBean.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            save.run();
+            bestTime = Math.min(bestTime, System.nanoTime() - start);
+            leastAllocated = Math.min(leastAllocated, threadMxBean.getThreadAllocatedBytes(threadId) - allocatedBefore);
+        }
+        System.out.printf("  %-18s %7.1f ms %8.1f MB allocated%n", name + ":", bestTime / 1e6,
+                leastAllocated / 1e6);
+    }
+
+    /**
+     * Saves the address book once.
+     */
+    @FunctionalInterface
+    private interface Save {
+        void run() throws Exception;
+    }
+}
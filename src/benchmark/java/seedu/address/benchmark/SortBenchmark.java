@@ -0,0 +1,68 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLIENTID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISPOSABLEINCOME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RISKAPPETITE;
+import static seedu.address.model.client.SortDirection.SORT_DESCENDING;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.client.SortByAttribute;
+
+/**
+ * Measures the time to sort clients with {@code SortByAttribute} as a comparator, against
+ * {@code SortByAttribute#sort}, which reads the attributes compared from each client once before sorting.
+ * <p>
+ * Arguments: [CLIENT_COUNT], 10000 by default.
+ */
+public class SortBenchmark {
+
+    private static final int ROUNDS = 50;
+
+    public static void main(String[] args) {
+        int clientCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        List<Client> clients = BenchmarkUtil.generateClients(clientCount);
+        Collections.shuffle(clients, new Random(0));
+
+        List<SortByAttribute> sorters = List.of(
+                new SortByAttribute(PREFIX_NAME).thenCompareByAttribute(PREFIX_CLIENTID),
+                new SortByAttribute(PREFIX_RISKAPPETITE, SORT_DESCENDING)
+                        .thenCompareByAttribute(PREFIX_DISPOSABLEINCOME)
+                        .thenCompareByAttribute(PREFIX_CLIENTID));
+
+        System.out.printf("%,d clients, best of %d rounds:%n", clientCount, ROUNDS);
+        for (SortByAttribute sorter : sorters) {
+            // warm up both sorts before they are measured
+            timeComparatorSort(sorter, clients);
+            timeKeySort(sorter, clients);
+
+            long comparatorSort = Long.MAX_VALUE;
+            long keySort = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                comparatorSort = Math.min(comparatorSort, timeComparatorSort(sorter, clients));
+                keySort = Math.min(keySort, timeKeySort(sorter, clients));
+            }
+            System.out.printf("  %s%n", sorter);
+            System.out.printf("    comparator sort: %.2f ms%n", comparatorSort / 1e6);
+            System.out.printf("    key sort:        %.2f ms%n", keySort / 1e6);
+        }
+    }
+
+    private static long timeComparatorSort(SortByAttribute sorter, List<Client> clients) {
+        long start = System.nanoTime();
+        List<Client> sortedClients = new ArrayList<>(clients);
+        sortedClients.sort(sorter);
+        return System.nanoTime() - start;
+    }
+
+    private static long timeKeySort(SortByAttribute sorter, List<Client> clients) {
+        long start = System.nanoTime();
+        sorter.sort(clients);
+        return System.nanoTime() - start;
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -16,6 +17,7 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.MeetingExpiryScheduler;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -45,6 +47,10 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected MeetingExpiryScheduler meetingExpiryScheduler;
+
+    /** Whether the address book the model starts with is the same as in its file. */
+    private boolean isAddressBookSaved;
 
     @Override
     public void init() throws Exception {
@@ -56,13 +62,14 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                userPrefs.isAddressBookPrettyPrinted());
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, userPrefs.getAddressBookSaveDelay());
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, isAddressBookSaved);
 
         ui = new UiManager(logic);
     }
@@ -71,11 +78,17 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        meetingExpiryScheduler = new MeetingExpiryScheduler(model, Platform::runLater);
+        meetingExpiryScheduler.start();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        if (meetingExpiryScheduler != null) {
+            meetingExpiryScheduler.stop();
+        }
+        storage.awaitPendingSaves();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -171,6 +184,7 @@ public class MainApp extends Application {
                 logger.info("Data file not found. Will be starting with a sample AddressBook");
                 storage.saveAddressBook(initialData);
             }
+            isAddressBookSaved = true;
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
 
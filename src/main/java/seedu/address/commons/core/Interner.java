@@ -0,0 +1,41 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps a canonical instance of every distinct immutable value, so that equal values can share one instance.
+ * Canonical instances are only weakly held, and are dropped once nothing else refers to them.
+ *
+ * @param <T> type of the immutable values, which must define {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+
+    private final Map<T, WeakReference<T>> canonicalInstances = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, making {@code value} the canonical instance if there is
+     * none.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> canonicalReference = canonicalInstances.get(value);
+        T canonicalInstance = canonicalReference == null ? null : canonicalReference.get();
+        if (canonicalInstance != null) {
+            return canonicalInstance;
+        }
+
+        canonicalInstances.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of canonical instances kept.
+     */
+    public synchronized int size() {
+        return canonicalInstances.size();
+    }
+}
@@ -1,10 +1,18 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +20,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     /**
      * Converts {@code String addressBookName} into a {@code Path}
@@ -99,6 +108,79 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Writes a file through {@code writer}, so that the file either keeps its old content or has all of the new
+     * content even if the app or the machine stops during the write.
+     * The content is written to a temporary file beside the file and forced to the disk before the temporary file is
+     * renamed over the file, and the rename is then forced to the disk as well. Creates the missing parent directories
+     * of the file.
+     * @throws IOException if the file cannot be written, in which case the file is left unchanged.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(),
+                TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+                    OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel))) {
+                writer.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            moveReplacing(tempFile, file);
+            forceParentDirectory(file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Appends {@code content} to the end of a file, and forces it to the disk before returning.
+     * Creates the file and its missing parent directories if the file does not exist.
+     * @throws IOException if the content cannot be appended, in which case only part of it may be in the file.
+     */
+    public static void appendToFileDurably(Path file, byte[] content) throws IOException {
+        createParentDirsOfFile(file);
+        boolean isNewFile = Files.notExists(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        if (isNewFile) {
+            forceParentDirectory(file);
+        }
+    }
+
+    /**
+     * Forces the entries of the parent directory of {@code file} to the disk, so that the file created or renamed
+     * there is not lost with the directory entry if the machine stops.
+     * Skipped on platforms that cannot open a directory, such as Windows, where the file system keeps the entry
+     * durable itself.
+     */
+    private static void forceParentDirectory(Path file) throws IOException {
+        FileChannel directory;
+        try {
+            directory = FileChannel.open(file.toAbsolutePath().getParent(), StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+        try (FileChannel channel = directory) {
+            channel.force(true);
+        }
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
@@ -107,4 +189,14 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
 }
@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +12,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -32,6 +36,8 @@ public class JsonUtil {
 
     private static final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            // values streamed through a generator are flushed with the generator rather than one by one
+            .configure(SerializationFeature.FLUSH_AFTER_WRITE_VALUE, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
             .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
@@ -91,6 +97,30 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a parser streaming the JSON data in the given file, which reads values with the same settings as
+     * {@link #readJsonFile(Path, Class)}. The file is read as the parser advances, and closed with the parser.
+     * @param filePath cannot be null
+     * @throws IOException if the file cannot be opened
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(Files.newInputStream(filePath));
+    }
+
+    /**
+     * Returns a generator streaming JSON data to {@code out}, which writes values with the same settings as
+     * {@link #saveJsonFile(Object, Path)}. Closing the generator flushes it without closing {@code out}.
+     * @param out cannot be null
+     * @param isPrettyPrinted whether the JSON data is indented, as by {@link #saveJsonFile(Object, Path)}
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return isPrettyPrinted ? generator.useDefaultPrettyPrinter() : generator;
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -72,7 +72,62 @@ public class StringUtil {
         String preppedWord = string;
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
 
-        return sentence.toLowerCase().contains(string.toLowerCase());
+        int lastStart = sentence.length() - string.length();
+        for (int start = 0; start <= lastStart; start++) {
+            if (sentence.regionMatches(true, start, string, 0, string.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of single character insertions, deletions and substitutions needed to turn {@code first}
+     * into {@code second}, or {@code maxDistance + 1} if more than {@code maxDistance} are needed.
+     * The distance is computed one row at a time and stops as soon as every entry of a row exceeds
+     * {@code maxDistance}, so strings far apart are rejected after a few characters.
+     * <br>examples:<pre>
+     *       getEditDistance("jonathon", "jonathan", 2) == 1
+     *       getEditDistance("kitten", "sitting", 2) == 3 // more than 2 edits
+     *       </pre>
+     *
+     * @param first       cannot be null
+     * @param second      cannot be null
+     * @param maxDistance cannot be negative
+     */
+    public static int getEditDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            int rowMin = currentRow[0];
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+                rowMin = Math.min(rowMin, currentRow[j]);
+            }
+            if (rowMin > maxDistance) {
+                return maxDistance + 1;
+            }
+
+            int[] row = previousRow;
+            previousRow = currentRow;
+            currentRow = row;
+        }
+        return Math.min(previousRow[second.length()], maxDistance + 1);
     }
 
     /**
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
@@ -10,6 +12,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientPreviewQuery;
 import seedu.address.model.tag.Tag;
 import seedu.address.ui.ThemeType;
 
@@ -35,6 +38,14 @@ public interface Logic {
      */
     CommandResult clearExecute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns a query finding the clients the command would show if executed now, without executing it.
+     *
+     * @param commandText The command as typed so far by the user.
+     * @return the query, or an empty Optional if the command is invalid or cannot be previewed.
+     */
+    Optional<ClientPreviewQuery> preview(String commandText);
+
     /**
      * Returns the AddressBook.
      *
@@ -120,4 +131,10 @@ public interface Logic {
      * Returns an unmodifiable view of the filtered list of tags
      */
     ObservableList<Tag> getFilteredTagList();
+
+    /**
+     * Sets the handler told of the error message of every address book save in the background that fails, on the
+     * background thread. The next command saves the address book again.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
 }
@@ -6,6 +6,8 @@ import static seedu.address.logic.commands.ClearCommand.MESSAGE_NOT_CLEARED;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.beans.value.ObservableValue;
@@ -23,6 +25,7 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientPreviewQuery;
 import seedu.address.model.tag.Tag;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
@@ -34,19 +37,42 @@ import seedu.address.ui.ThemeType;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    private static final long NOT_SAVED = -1;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    /** The version of the address book in its file, or {@code NOT_SAVED} if the file may differ from it. */
+    private long savedAddressBookVersion = NOT_SAVED;
+    private long skippedSaveCount;
+    /** Whether a save in the background failed since the last save, so the address book is saved even if unchanged. */
+    private final AtomicBoolean isBackgroundSaveFailed = new AtomicBoolean();
+    private volatile Consumer<String> saveFailureHandler = message -> {};
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, false);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     *
+     * @param isAddressBookSaved whether the address book of {@code model} is the same as in its file, such as when it
+     *                           was just read from the file, so it needs no saving until it changes.
+     */
+    public LogicManager(Model model, Storage storage, boolean isAddressBookSaved) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser(model);
+        savedAddressBookVersion = isAddressBookSaved ? model.getAddressBook().getVersion() : NOT_SAVED;
+        storage.setSaveFailureHandler(exception -> {
+            isBackgroundSaveFailed.set(true);
+            saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + exception);
+        });
     }
 
     @Override
@@ -74,6 +100,17 @@ public class LogicManager implements Logic {
         return new CommandResult(MESSAGE_CLEARED);
     }
 
+    @Override
+    public Optional<ClientPreviewQuery> preview(String commandText) {
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException e) {
+            return Optional.empty();
+        }
+        return command.preview(model);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -117,10 +154,13 @@ public class LogicManager implements Logic {
     @Override
     public void switchAddressBook() {
         Path filePath = getAddressBookFilePath();
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(filePath,
+                model.getUserPrefs().isAddressBookPrettyPrinted());
         ReadOnlyAddressBook addressBook;
+        boolean isReadFromFile = false;
         try {
             Optional<ReadOnlyAddressBook> addressBookOptional = this.storage.readAddressBook(filePath);
+            isReadFromFile = addressBookOptional.isPresent();
             addressBook = addressBookOptional.orElseGet(AddressBook::new);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
@@ -132,6 +172,8 @@ public class LogicManager implements Logic {
 
         this.model.setAddressBook(addressBook);
         this.storage.switchAddressBookStorage(addressBookStorage);
+        // an address book read from its file needs no saving until it changes
+        savedAddressBookVersion = isReadFromFile ? model.getAddressBook().getVersion() : NOT_SAVED;
     }
 
     @Override
@@ -143,12 +185,14 @@ public class LogicManager implements Logic {
     @Override
     public void createAddressBook() throws CommandException {
         Path filePath = getAddressBookFilePath();
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(filePath,
+                model.getUserPrefs().isAddressBookPrettyPrinted());
         ReadOnlyAddressBook addressBook = new AddressBook();
 
         this.model.setAddressBook(addressBook);
         this.storage.switchAddressBookStorage(addressBookStorage);
         this.model.addAddressBookList(filePath);
+        savedAddressBookVersion = NOT_SAVED;
         saveAddressBook();
     }
 
@@ -177,14 +221,28 @@ public class LogicManager implements Logic {
         return model.getFilteredTagList();
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
     /**
-     * Saves the current Address Book.
+     * Saves the current Address Book, unless it is unchanged since it was last saved.
      */
     private void saveAddressBook() throws CommandException {
+        long version = model.getAddressBook().getVersion();
+        boolean isRetry = isBackgroundSaveFailed.getAndSet(false);
+        if (version == savedAddressBookVersion && !isRetry) {
+            skippedSaveCount++;
+            logger.info("Address book unchanged, save skipped (" + skippedSaveCount + " saves skipped)");
+            return;
+        }
+
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+        savedAddressBookVersion = version;
     }
 }
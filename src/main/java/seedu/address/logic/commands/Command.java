@@ -1,7 +1,10 @@
 package seedu.address.logic.commands;
 
+import java.util.Optional;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.client.ClientPreviewQuery;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +20,14 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns a query finding the clients this command would show if executed now, without changing {@code model},
+     * or an empty Optional if this command cannot be previewed.
+     *
+     * @param model {@code Model} which the command would operate on.
+     */
+    public Optional<ClientPreviewQuery> preview(Model model) {
+        return Optional.empty();
+    }
+
 }
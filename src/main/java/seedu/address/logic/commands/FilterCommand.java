@@ -2,9 +2,15 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.Optional;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.client.AttributeRange;
 import seedu.address.model.client.ClientContainsKeywordsPredicate;
+import seedu.address.model.client.ClientPreviewQuery;
+import seedu.address.model.tag.TagExpression;
 
 public class FilterCommand extends Command {
 
@@ -12,8 +18,12 @@ public class FilterCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Filter the currently displayed list of clients by"
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD... [<attribute>/ATTRIBUTE_KEYWORD]...\n"
-            + "Example: " + COMMAND_WORD + " e/example.com";
+            + "Parameters: KEYWORD... [<attribute>/ATTRIBUTE_KEYWORD]... [t/TAG_KEYWORD[&t/TAG_KEYWORD|...]]...\n"
+            + "Tag keywords may be joined by & (and) or | (or), and preceded by - (not).\n"
+            + "d/, r/, l/ and m/ also take ranges: >=X, >X, <=X, <X, X..Y, and this-week or this-month for l/ and m/.\n"
+            + "Example: " + COMMAND_WORD + " e/example.com\n"
+            + "Example: " + COMMAND_WORD + " t/vip&t/retiree -t/inactive\n"
+            + "Example: " + COMMAND_WORD + " d/>=5000 r/2..4 m/this-week";
 
     private final ClientContainsKeywordsPredicate predicate;
 
@@ -24,11 +34,35 @@ public class FilterCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.filterFilteredClientList(predicate);
+        model.filterFilteredClientList(List.of(COMMAND_WORD, predicate), createIndexedPredicate(model));
         return new CommandResult(
                 String.format(Messages.MESSAGE_CLIENTS_LISTED_OVERVIEW, model.getFilteredClientList().size()));
     }
 
+    @Override
+    public Optional<ClientPreviewQuery> preview(Model model) {
+        requireNonNull(model);
+        return Optional.of(model.previewFilterFilteredClientList(createIndexedPredicate(model)));
+    }
+
+    private ClientContainsKeywordsPredicate createIndexedPredicate(Model model) {
+        ClientContainsKeywordsPredicate indexedPredicate = predicate;
+        List<String> tagKeywords = predicate.getTagKeywords();
+        if (!tagKeywords.isEmpty()) {
+            TagExpression tagExpression = new TagExpression(tagKeywords);
+            indexedPredicate = indexedPredicate.withTagPredicate(model.createTagPredicate(tagExpression));
+        }
+        List<AttributeRange> attributeRanges = predicate.getAttributeRanges();
+        if (!attributeRanges.isEmpty()) {
+            indexedPredicate = indexedPredicate.withRangePredicate(model.createRangePredicate(attributeRanges));
+        }
+        List<String> generalKeywords = predicate.getGeneralKeywords();
+        if (!generalKeywords.isEmpty()) {
+            indexedPredicate = indexedPredicate.withGeneralPredicate(model.createKeywordPredicate(generalKeywords));
+        }
+        return indexedPredicate;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -10,52 +10,77 @@ import seedu.address.model.Model;
 import seedu.address.model.client.Client;
 
 /**
- * Deletes a client identified using it's displayed index from the address book.
+ * Shows the meetings planned on a day or within a range of days.
  */
 public class ScheduleCommand extends Command {
 
     public static final String COMMAND_WORD = "schedule";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": showcases the meetings that the financial advisor has on the day. \n"
-            + "Parameters: [DATE] \n"
-            + "Example: " + COMMAND_WORD + " 01-01-2021";
+            + ": showcases the meetings that the financial advisor has on the day, within a range of days, "
+            + "or within the week or month of the day. \n"
+            + "Parameters: [DATE [END_DATE]] or week [DATE] or month [DATE]\n"
+            + "Example: " + COMMAND_WORD + " 01-01-2021, " + COMMAND_WORD + " 01-01-2021 31-01-2021, "
+            + COMMAND_WORD + " week 05-01-2021";
 
     public static final String MESSAGE_SCHEDULE_SUCCESS = "Found Schedule for %1$s";
+    public static final String MESSAGE_SCHEDULE_RANGE_SUCCESS = "Found Schedule from %1$s to %2$s";
     public static final String MESSAGE_INVALID_DATE_FAILURE = "Please input a date in the format of dd-MM-yyyy, "
             + "where dd refers to the day, MM refers to the month and yyyy refers to the year.";
+    public static final String MESSAGE_INVALID_DATE_RANGE_FAILURE = "The end date should not be before the start date.";
     public static final String MESSAGE_NO_SCHEDULE_ON_DATE_SUCCESS = "No meetings on the day!";
+    public static final String MESSAGE_NO_SCHEDULE_IN_RANGE_SUCCESS = "No meetings within the days!";
     public static final String MESSAGE_SHOW_ALL_MEETINGS_SUCCESS = "Showing all meetings.";
 
-    private final LocalDate scheduleDate;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
 
+    /**
+     * Creates a ScheduleCommand to show the meetings on {@code scheduleDate}, or every meeting if it is null.
+     */
     public ScheduleCommand(LocalDate scheduleDate) {
-        this.scheduleDate = scheduleDate;
+        this(scheduleDate, scheduleDate);
+    }
+
+    /**
+     * Creates a ScheduleCommand to show the meetings from {@code startDate} to {@code endDate} inclusive, or every
+     * meeting if the dates are null.
+     */
+    public ScheduleCommand(LocalDate startDate, LocalDate endDate) {
+        this.startDate = startDate;
+        this.endDate = endDate;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        if (scheduleDate == null) {
-            model.filterSortedNextMeetingList(null);
+        if (startDate == null || endDate == null) {
+            model.filterSortedNextMeetingList(null, null);
             return new CommandResult(MESSAGE_SHOW_ALL_MEETINGS_SUCCESS);
         }
 
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d MMM yyyy");
-        List<Client> clientsWithMeetings = model.retrieveSchedule(scheduleDate);
+        List<Client> clientsWithMeetings = model.retrieveSchedule(startDate, endDate);
+        boolean isSingleDay = startDate.equals(endDate);
 
-        model.filterSortedNextMeetingList(scheduleDate);
-        // there is no meetings schedule for the day
+        model.filterSortedNextMeetingList(startDate, endDate);
+        // there is no meetings schedule for the days
         if (clientsWithMeetings.size() == 0) {
-            return new CommandResult(MESSAGE_NO_SCHEDULE_ON_DATE_SUCCESS);
+            return new CommandResult(isSingleDay ? MESSAGE_NO_SCHEDULE_ON_DATE_SUCCESS
+                    : MESSAGE_NO_SCHEDULE_IN_RANGE_SUCCESS);
         }
 
-        return new CommandResult(String.format(MESSAGE_SCHEDULE_SUCCESS, formatter.format(scheduleDate)));
+        if (isSingleDay) {
+            return new CommandResult(String.format(MESSAGE_SCHEDULE_SUCCESS, formatter.format(startDate)));
+        }
+        return new CommandResult(String.format(MESSAGE_SCHEDULE_RANGE_SUCCESS, formatter.format(startDate),
+                formatter.format(endDate)));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ScheduleCommand // instanceof handles nulls
-                && Objects.equals(scheduleDate, ((ScheduleCommand) other).scheduleDate)); // state check
+                && Objects.equals(startDate, ((ScheduleCommand) other).startDate) // state check
+                && Objects.equals(endDate, ((ScheduleCommand) other).endDate));
     }
 }
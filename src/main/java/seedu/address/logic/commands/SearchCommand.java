@@ -2,37 +2,104 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.client.AttributeRange;
+import seedu.address.model.client.Client;
 import seedu.address.model.client.ClientContainsKeywordsPredicate;
+import seedu.address.model.client.ClientPreviewQuery;
+import seedu.address.model.client.FuzzyQuery;
+import seedu.address.model.tag.TagExpression;
 
 public class SearchCommand extends Command {
 
     public static final String COMMAND_WORD = "search";
 
+    public static final String FUZZY_FLAG = "--fuzzy";
+    public static final String FUZZY_SUFFIX = "~";
+    public static final int MAX_FUZZY_RESULTS = 50;
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Search all clients whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD... [<attribute>/ATTRIBUTE_KEYWORD]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie a/Blk 40";
+            + "Parameters: [" + FUZZY_FLAG + "] KEYWORD... [<attribute>/ATTRIBUTE_KEYWORD[" + FUZZY_SUFFIX + "]]...\n"
+            + "d/, r/, l/ and m/ also take ranges: >=X, >X, <=X, <X, X..Y, and this-week or this-month for l/ and m/.\n"
+            + "Tag keywords can be joined with & (and) or | (or), and preceded by - (not); every t/ given must match.\n"
+            + "Keywords after " + FUZZY_FLAG + ", and attribute keywords ending with " + FUZZY_SUFFIX + ", allow a few "
+            + "typing mistakes, and up to " + MAX_FUZZY_RESULTS + " clients are listed from the closest match.\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie a/Blk 40\n"
+            + "Example: " + COMMAND_WORD + " d/>=5000 l/<01-01-2021 t/vip&t/retiree -t/inactive\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_FLAG + " jonathon n/smiht" + FUZZY_SUFFIX;
 
     private final ClientContainsKeywordsPredicate predicate;
+    private final FuzzyQuery fuzzyQuery;
 
     public SearchCommand(ClientContainsKeywordsPredicate predicate) {
+        this(predicate, null);
+    }
+
+    /**
+     * Creates a SearchCommand listing the clients matching both {@code predicate} and {@code fuzzyQuery}, ranked from
+     * the closest match, or every client matching {@code predicate} if {@code fuzzyQuery} is null.
+     */
+    public SearchCommand(ClientContainsKeywordsPredicate predicate, FuzzyQuery fuzzyQuery) {
         this.predicate = predicate;
+        this.fuzzyQuery = fuzzyQuery;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredClientList(predicate);
+        ClientContainsKeywordsPredicate indexedPredicate = createIndexedPredicate(model);
+        if (fuzzyQuery == null) {
+            model.updateFilteredClientList(List.of(COMMAND_WORD, predicate), indexedPredicate);
+        } else {
+            List<Client> rankedClients = model.getFuzzyMatches(fuzzyQuery, indexedPredicate, MAX_FUZZY_RESULTS);
+            model.rankFilteredClientList(rankedClients);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_CLIENTS_LISTED_OVERVIEW, model.getFilteredClientList().size()));
     }
 
+    /**
+     * Previews the clients found by an exact search. A fuzzy search is not previewed, as its closest matches are
+     * ranked from the word index rather than found by testing each client.
+     */
+    @Override
+    public Optional<ClientPreviewQuery> preview(Model model) {
+        requireNonNull(model);
+        if (fuzzyQuery != null) {
+            return Optional.empty();
+        }
+        return Optional.of(model.previewUpdateFilteredClientList(createIndexedPredicate(model)));
+    }
+
+    private ClientContainsKeywordsPredicate createIndexedPredicate(Model model) {
+        ClientContainsKeywordsPredicate indexedPredicate = predicate;
+        List<String> tagKeywords = predicate.getTagKeywords();
+        if (!tagKeywords.isEmpty()) {
+            TagExpression tagExpression = new TagExpression(tagKeywords);
+            indexedPredicate = indexedPredicate.withTagPredicate(model.createTagPredicate(tagExpression));
+        }
+        List<String> generalKeywords = predicate.getGeneralKeywords();
+        if (!generalKeywords.isEmpty()) {
+            indexedPredicate = indexedPredicate.withGeneralPredicate(model.createKeywordPredicate(generalKeywords));
+        }
+        List<AttributeRange> attributeRanges = predicate.getAttributeRanges();
+        if (!attributeRanges.isEmpty()) {
+            indexedPredicate = indexedPredicate.withRangePredicate(model.createRangePredicate(attributeRanges));
+        }
+        return indexedPredicate;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof SearchCommand // instanceof handles nulls
-                && predicate.equals(((SearchCommand) other).predicate)); // state check
+                && predicate.equals(((SearchCommand) other).predicate)
+                && Objects.equals(fuzzyQuery, ((SearchCommand) other).fuzzyQuery)); // state check
     }
 }
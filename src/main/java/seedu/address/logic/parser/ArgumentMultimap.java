@@ -79,4 +79,9 @@ public class ArgumentMultimap {
                 || (other instanceof ArgumentMultimap
                 && argMultimap.equals(((ArgumentMultimap) other).argMultimap));
     }
+
+    @Override
+    public int hashCode() {
+        return argMultimap.hashCode();
+    }
 }
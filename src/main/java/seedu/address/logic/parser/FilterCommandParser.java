@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_FIELDS_EMPTY;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.ALL_PREFIXES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -12,9 +13,14 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.client.AttributeRange;
 import seedu.address.model.client.ClientContainsKeywordsPredicate;
+import seedu.address.model.tag.TagExpression;
 
 public class FilterCommandParser implements Parser<FilterCommand> {
+    /** Matches a negated tag keyword given as {@code -t/TAG_KEYWORD}. */
+    static final String NEGATED_TAG_REGEX = "(?<=^|\\s)-" + PREFIX_TAG.getPrefix();
+
     /**
      * Parses the given {@code String} of arguments in the context of the FilterCommand
      * and returns a FilterCommand object for execution.
@@ -29,7 +35,9 @@ public class FilterCommandParser implements Parser<FilterCommand> {
         }
 
         // appends " " in front as Filter Command can accept arguments without a preamble
-        String preparedArgs = " ".concat(trimmedArgs);
+        // a negated tag keyword is rewritten as t/-TAG_KEYWORD so that it is tokenized as a tag keyword
+        String preparedArgs = " ".concat(trimmedArgs)
+                .replaceAll(NEGATED_TAG_REGEX, PREFIX_TAG.getPrefix() + "-");
         ArgumentMultimap argMultimap = ArgumentTokenizer
             .tokenize(preparedArgs, ALL_PREFIXES);
 
@@ -46,6 +54,23 @@ public class FilterCommandParser implements Parser<FilterCommand> {
                     StringUtil.joinListToString(emptyInputPrefixes, StringUtil.COMMA_DELIMITER)));
         }
 
+        boolean hasInvalidTagExpression = argMultimap.getAllValues(PREFIX_TAG)
+                .stream()
+                .anyMatch(tagExpression -> !TagExpression.isValidTagExpression(tagExpression));
+        if (hasInvalidTagExpression) {
+            throw new ParseException(TagExpression.MESSAGE_CONSTRAINTS);
+        }
+
+        boolean hasInvalidAttributeRange = AttributeRange.RANGE_PREFIXES
+                .stream()
+                .anyMatch(prefix -> argMultimap.getValue(prefix)
+                        .map(keyword -> AttributeRange.isRangeExpression(prefix, keyword)
+                                && !AttributeRange.isValidRangeExpression(prefix, keyword))
+                        .orElse(false));
+        if (hasInvalidAttributeRange) {
+            throw new ParseException(AttributeRange.MESSAGE_CONSTRAINTS);
+        }
+
         return new FilterCommand(new ClientContainsKeywordsPredicate(argMultimap));
     }
 }
@@ -88,7 +88,7 @@ public class ParserUtil {
         if (!Address.isValidAddress(trimmedAddress)) {
             throw new ParseException(Address.MESSAGE_CONSTRAINTS);
         }
-        return new Address(trimmedAddress);
+        return Address.of(trimmedAddress);
     }
 
     /**
@@ -118,7 +118,7 @@ public class ParserUtil {
         if (!CurrentPlan.isValidCurrentPlan(trimmedCurrentPlan)) {
             throw new ParseException(CurrentPlan.MESSAGE_CONSTRAINTS);
         }
-        return new CurrentPlan(trimmedCurrentPlan);
+        return CurrentPlan.of(trimmedCurrentPlan);
     }
 
     /**
@@ -136,7 +136,7 @@ public class ParserUtil {
         if (!LastMet.isNotFutureDate(trimmedLastMet)) {
             throw new ParseException(LastMet.MESSAGE_FUTURE_DATE);
         }
-        return new LastMet(trimmedLastMet);
+        return LastMet.of(trimmedLastMet);
     }
 
     /**
@@ -222,7 +222,7 @@ public class ParserUtil {
         if (NextMeeting.isNotPastMeeting(date, endTime)) {
             return Optional.of(new NextMeeting(date, startTime, endTime, location, ""));
         } else {
-            return Optional.of(new LastMet(date));
+            return Optional.of(LastMet.of(date));
         }
 
     }
@@ -238,7 +238,7 @@ public class ParserUtil {
         if (!RiskAppetite.isValidRiskAppetite(trimmedRiskAppetite)) {
             throw new ParseException(RiskAppetite.MESSAGE_CONSTRAINTS);
         }
-        return new RiskAppetite(trimmedRiskAppetite);
+        return RiskAppetite.of(trimmedRiskAppetite);
     }
 
     /**
@@ -253,7 +253,7 @@ public class ParserUtil {
         if (!DisposableIncome.isValidDisposableIncome(trimmedDisposableIncome)) {
             throw new ParseException(DisposableIncome.MESSAGE_CONSTRAINTS);
         }
-        return new DisposableIncome(trimmedDisposableIncome);
+        return DisposableIncome.of(trimmedDisposableIncome);
     }
 
     /**
@@ -3,8 +3,10 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.ALL_PREFIXES;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.ScheduleCommand;
@@ -16,6 +18,11 @@ import seedu.address.model.Model;
  */
 public class ScheduleCommandParser implements Parser<ScheduleCommand> {
 
+    public static final String WEEK_VIEW = "week";
+    public static final String MONTH_VIEW = "month";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
     /**
      * Parses the given {@code String} of arguments in the context of the ScheduleCommand
      * and returns an ScheduleCommand object for execution.
@@ -31,14 +38,46 @@ public class ScheduleCommandParser implements Parser<ScheduleCommand> {
 
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, ALL_PREFIXES);
+        String[] tokens = argMultimap.getPreamble().split("\\s+");
+
+        if (tokens[0].equalsIgnoreCase(WEEK_VIEW) || tokens[0].equalsIgnoreCase(MONTH_VIEW)) {
+            if (tokens.length > 2) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
+            }
+
+            LocalDate givenDate = tokens.length == 2 ? parseDate(tokens[1]) : LocalDate.now();
+            if (tokens[0].equalsIgnoreCase(WEEK_VIEW)) {
+                LocalDate startOfWeek = givenDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                return new ScheduleCommand(startOfWeek, startOfWeek.plusDays(6));
+            }
+            return new ScheduleCommand(givenDate.withDayOfMonth(1), givenDate.with(TemporalAdjusters.lastDayOfMonth()));
+        }
+
+        if (tokens.length > 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
+        }
 
+        LocalDate startDate = parseDate(tokens[0]);
+        LocalDate endDate = tokens.length == 2 ? parseDate(tokens[1]) : startDate;
+        if (endDate.isBefore(startDate)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ScheduleCommand.MESSAGE_INVALID_DATE_RANGE_FAILURE));
+        }
+        return new ScheduleCommand(startDate, endDate);
+    }
+
+    /**
+     * Parses {@code date} in the dd-MM-yyyy format.
+     *
+     * @throws ParseException if {@code date} is not a valid date.
+     */
+    private static LocalDate parseDate(String date) throws ParseException {
         // Throws error if invalid date is inputted
-        if (!StringUtil.isValidDate(argMultimap.getPreamble())) {
+        if (date.isEmpty() || !StringUtil.isValidDate(date)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     ScheduleCommand.MESSAGE_INVALID_DATE_FAILURE));
         }
 
-        LocalDate givenDate = LocalDate.parse(argMultimap.getPreamble(), DateTimeFormatter.ofPattern("dd-MM-yyyy"));
-        return new ScheduleCommand(givenDate);
+        return LocalDate.parse(date, DATE_FORMATTER);
     }
 }
@@ -3,8 +3,13 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_FIELDS_EMPTY;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.ALL_PREFIXES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.FilterCommandParser.NEGATED_TAG_REGEX;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.mapper.PrefixMapper;
@@ -12,7 +17,10 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.client.AttributeRange;
 import seedu.address.model.client.ClientContainsKeywordsPredicate;
+import seedu.address.model.client.FuzzyQuery;
+import seedu.address.model.tag.TagExpression;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -34,7 +42,9 @@ public class SearchCommandParser implements Parser<SearchCommand> {
         }
 
         // appends " " in front as Search Command can accept arguments without a preamble
-        String preparedArgs = " ".concat(trimmedArgs);
+        // a negated tag keyword is rewritten as t/-TAG_KEYWORD so that it is tokenized as a tag keyword, as in filter
+        String preparedArgs = " ".concat(trimmedArgs)
+                .replaceAll(NEGATED_TAG_REGEX, PREFIX_TAG.getPrefix() + "-");
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(preparedArgs, ALL_PREFIXES);
 
         List<String> emptyInputPrefixes = argMultimap.getPrefixOrdering()
@@ -50,7 +60,90 @@ public class SearchCommandParser implements Parser<SearchCommand> {
                     StringUtil.joinListToString(emptyInputPrefixes, StringUtil.COMMA_DELIMITER)));
         }
 
-        return new SearchCommand(new ClientContainsKeywordsPredicate(argMultimap));
+        boolean hasInvalidTagExpression = argMultimap.getAllValues(PREFIX_TAG)
+                .stream()
+                .anyMatch(tagExpression -> !TagExpression.isValidTagExpression(tagExpression));
+        if (hasInvalidTagExpression) {
+            throw new ParseException(TagExpression.MESSAGE_CONSTRAINTS);
+        }
+
+        boolean hasInvalidAttributeRange = AttributeRange.RANGE_PREFIXES
+                .stream()
+                .anyMatch(prefix -> argMultimap.getValue(prefix)
+                        .map(keyword -> AttributeRange.isRangeExpression(prefix, keyword)
+                                && !AttributeRange.isValidRangeExpression(prefix, keyword))
+                        .orElse(false));
+        if (hasInvalidAttributeRange) {
+            throw new ParseException(AttributeRange.MESSAGE_CONSTRAINTS);
+        }
+
+        List<String> generalKeywords = List.of(argMultimap.getPreamble().split(" "));
+        boolean hasFuzzyAttributeKeyword = argMultimap.getPrefixOrdering()
+                .stream()
+                .anyMatch(prefix -> argMultimap.getAllValues(prefix)
+                        .stream()
+                        .anyMatch(keyword -> isFuzzyAttributeKeyword(prefix, keyword)));
+        if (!generalKeywords.contains(SearchCommand.FUZZY_FLAG) && !hasFuzzyAttributeKeyword) {
+            return new SearchCommand(new ClientContainsKeywordsPredicate(argMultimap));
+        }
+
+        return parseFuzzySearch(argMultimap, generalKeywords);
+    }
+
+    /**
+     * Parses the keywords in {@code argMultimap} into a SearchCommand ranking the clients by the fuzzy keywords,
+     * which are the general keywords following {@code SearchCommand.FUZZY_FLAG} if it is given, and the attribute
+     * keywords ending with {@code SearchCommand.FUZZY_SUFFIX}. Every fuzzy keyword given for the same attribute must
+     * match, as every tag keyword must. The other keywords must match exactly.
+     *
+     * @throws ParseException if there is no fuzzy keyword, or a fuzzy keyword has no letter or digit
+     */
+    private static SearchCommand parseFuzzySearch(ArgumentMultimap argMultimap, List<String> generalKeywords)
+            throws ParseException {
+        ArgumentMultimap exactKeywords = new ArgumentMultimap();
+        List<String> fuzzyGeneralKeywords = new ArrayList<>();
+        if (generalKeywords.contains(SearchCommand.FUZZY_FLAG)) {
+            exactKeywords.put(new Prefix(""), "");
+            generalKeywords.stream()
+                    .filter(keyword -> !keyword.isBlank() && !keyword.equals(SearchCommand.FUZZY_FLAG))
+                    .forEach(fuzzyGeneralKeywords::add);
+        } else {
+            exactKeywords.put(new Prefix(""), argMultimap.getPreamble());
+        }
+
+        Map<Prefix, List<String>> fuzzyAttributeKeywords = new LinkedHashMap<>();
+        for (Prefix prefix : ALL_PREFIXES) {
+            for (String keyword : argMultimap.getAllValues(prefix)) {
+                if (isFuzzyAttributeKeyword(prefix, keyword)) {
+                    fuzzyAttributeKeywords.computeIfAbsent(prefix, unused -> new ArrayList<>())
+                            .add(StringUtil.getStringWithoutSuffix(keyword.trim(), SearchCommand.FUZZY_SUFFIX).trim());
+                } else {
+                    exactKeywords.put(prefix, keyword);
+                }
+            }
+        }
+
+        FuzzyQuery fuzzyQuery;
+        try {
+            fuzzyQuery = new FuzzyQuery(fuzzyGeneralKeywords, fuzzyAttributeKeywords);
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE), e);
+        }
+        if (fuzzyQuery.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+
+        return new SearchCommand(new ClientContainsKeywordsPredicate(exactKeywords), fuzzyQuery);
+    }
+
+    /**
+     * Returns true if {@code keyword} of the attribute with {@code prefix} is to be matched allowing typing mistakes.
+     * Tag keywords and ranges are always matched exactly.
+     */
+    private static boolean isFuzzyAttributeKeyword(Prefix prefix, String keyword) {
+        return !prefix.equals(PREFIX_TAG)
+                && keyword.trim().endsWith(SearchCommand.FUZZY_SUFFIX)
+                && !AttributeRange.isRangeExpression(prefix, keyword);
     }
 
 }
@@ -1,23 +1,36 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
-import java.util.logging.Logger;
 
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
-import seedu.address.MainApp;
-import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.client.AttributeRange;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.Client.EditClientDescriptor;
+import seedu.address.model.client.ClientContainsAnyKeywordPredicate;
 import seedu.address.model.client.ClientId;
+import seedu.address.model.client.ClientInRangesPredicate;
+import seedu.address.model.client.ClientMatchesTagExpressionPredicate;
+import seedu.address.model.client.ClientRangeIndex;
+import seedu.address.model.client.ClientTrigramIndex;
+import seedu.address.model.client.ClientWordIndex;
+import seedu.address.model.client.FuzzyQuery;
+import seedu.address.model.client.MeetingCalendar;
+import seedu.address.model.client.SortByAttribute;
+import seedu.address.model.client.SortedClientIndex;
 import seedu.address.model.client.UniqueClientList;
 import seedu.address.model.tag.Tag;
-import seedu.address.model.tag.TagIsUnreferenced;
+import seedu.address.model.tag.TagClientIndex;
+import seedu.address.model.tag.TagExpression;
 import seedu.address.model.tag.UniqueTagList;
 
 /**
@@ -26,12 +39,17 @@ import seedu.address.model.tag.UniqueTagList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
-    private static final Logger logger = LogsCenter.getLogger(MainApp.class);
-
     private final UniqueClientList clients;
     private final UniqueTagList tags;
+    private final MeetingCalendar meetingCalendar;
+    private final TagClientIndex tagClientIndex;
+    private final SortedClientIndex sortedClientIndex;
+    private final ClientRangeIndex clientRangeIndex;
+    private final ClientTrigramIndex clientTrigramIndex;
+    private final ClientWordIndex clientWordIndex;
 
-    private String clientCounter;
+    private long clientCounter;
+    private long version;
 
     {
         /*
@@ -43,18 +61,41 @@ public class AddressBook implements ReadOnlyAddressBook {
          */
         clients = new UniqueClientList();
         tags = new UniqueTagList();
+        meetingCalendar = new MeetingCalendar();
+        tagClientIndex = new TagClientIndex();
+        sortedClientIndex = new SortedClientIndex();
+        clientRangeIndex = new ClientRangeIndex();
+        clientTrigramIndex = new ClientTrigramIndex();
+        clientWordIndex = new ClientWordIndex();
 
         clients.asUnmodifiableObservableList().addListener((ListChangeListener<Client>) change -> {
+            version++;
+            List<Client> removedClients = new ArrayList<>();
+            List<Client> addedClients = new ArrayList<>();
             while (change.next()) {
-                change.getRemoved().forEach(Client::delete);
-
-                change.getAddedSubList().forEach(client -> client.getTags()
-                        .stream()
-                        .filter(tag -> !tags.contains(tag))
-                        .forEach(tags::add));
-
-                removeUnreferencedTags();
+                removedClients.addAll(change.getRemoved());
+                addedClients.addAll(change.getAddedSubList());
             }
+
+            removedClients.forEach(Client::delete);
+            removedClients.forEach(meetingCalendar::remove);
+            // clients are removed from the index first as an edited client keeps its client id
+            removedClients.forEach(tagClientIndex::remove);
+            removedClients.forEach(sortedClientIndex::remove);
+            removedClients.forEach(clientRangeIndex::remove);
+            removedClients.forEach(clientTrigramIndex::remove);
+            removedClients.forEach(clientWordIndex::remove);
+            addedClients.forEach(client -> client.getTags().forEach(tag -> tag.addClient(client)));
+            addedClients.forEach(meetingCalendar::add);
+            addedClients.forEach(tagClientIndex::add);
+            addedClients.forEach(sortedClientIndex::add);
+            addedClients.forEach(clientRangeIndex::add);
+            addedClients.forEach(clientTrigramIndex::add);
+            addedClients.forEach(clientWordIndex::add);
+
+            // references are added before they are removed so that a tag kept by an edited client is not dropped
+            addedClients.forEach(client -> client.getTags().forEach(tags::addReference));
+            removedClients.forEach(client -> client.getTags().forEach(tags::removeReference));
         });
     }
 
@@ -79,6 +120,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         setClients(newData.getClientList());
         setTags(newData.getTagList());
         setClientCounter(newData.getClientCounter());
+        updateLastMetDate();
     }
 
     /**
@@ -121,12 +163,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Replaces the given client {@code target} in the list with {@code editedClient}.
-     * {@code target} must exist in the address book.
-     * The client identity of {@code editedClient} must not be the same as another existing client in the address book.
-     * If the given client's next meeting is edited, {@code meetings} will be updated with the new NextMeeting
+     * Replaces the clients with the given {@code clientIds} with their edited versions as a single change.
+     * Every client must exist in the address book.
+     * The client identity of every edited client must not be the same as another client in the address book after
+     * the edit, otherwise the address book is left unchanged.
      *
-     * @return the given client {@code target} in the list with {@code editedClient}.
+     * @return the edited clients in the order of {@code clientIds}.
      */
     public List<Client> setAllClients(List<ClientId> clientIds, EditClientDescriptor editedClientDescriptor) {
         requireNonNull(clientIds);
@@ -135,14 +177,72 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Retrieve the NextMeeting from the given LocalDate by the user {@code date}.
-     * Returns client with corresponding clientId.
+     * Retrieves the clients with meetings from {@code startDate} to {@code endDate} inclusive.
      *
-     * @return a list of NextMeetings that's on the same date as {@code date}
+     * @return a list of clients with meetings within the dates, in the order of their meetings.
+     */
+    public List<Client> retrieveNextMeetings(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        return meetingCalendar.getMeetings(startDate, endDate);
+    }
+
+    /**
+     * Returns a number that increases whenever a client is added, edited or removed, so that a result found from the
+     * clients is still valid while the number is unchanged.
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns every client in the address book sorted by {@code sorter}, then by client id.
+     * The clients are kept sorted by {@code sorter} while it is one of the few sorts most recently asked for, so later
+     * calls with the same {@code sorter} do not sort again.
+     */
+    public List<Client> getSortedClients(SortByAttribute sorter) {
+        requireNonNull(sorter);
+        return sortedClientIndex.getSortedClients(sorter, clients.asUnmodifiableObservableList());
+    }
+
+    /**
+     * Returns a predicate that tests whether a client in the address book satisfies {@code tagExpression}.
+     * The predicate is answered from an index of the clients by tag, and follows later changes to the address book.
+     */
+    public Predicate<Client> createTagPredicate(TagExpression tagExpression) {
+        requireNonNull(tagExpression);
+        return new ClientMatchesTagExpressionPredicate(tagExpression, tagClientIndex);
+    }
+
+    /**
+     * Returns a predicate that tests whether a client in the address book is within every one of {@code ranges}.
+     * The predicate is answered by range scans of an index of the clients by attribute, and follows later changes to
+     * the address book.
      */
-    public List<Client> retrieveLastMeetings(LocalDate date) {
-        requireNonNull(date);
-        return clients.retrieveNextMeetings(date);
+    public Predicate<Client> createRangePredicate(List<AttributeRange> ranges) {
+        requireNonNull(ranges);
+        return new ClientInRangesPredicate(ranges, clientRangeIndex);
+    }
+
+    /**
+     * Returns a predicate that tests whether any attribute or tag of a client in the address book contains any of
+     * {@code keywords}, ignoring case.
+     * The predicate is answered from an index of the trigrams of the clients' text, and follows later changes to the
+     * address book.
+     */
+    public Predicate<Client> createKeywordPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        return new ClientContainsAnyKeywordPredicate(keywords, clientTrigramIndex);
+    }
+
+    /**
+     * Returns up to {@code limit} clients in the address book matching {@code query} and {@code predicate}, ranked
+     * from the closest match.
+     * The clients are found from an index of the words of the clients' text.
+     */
+    public List<Client> getFuzzyMatches(FuzzyQuery query, Predicate<Client> predicate, int limit) {
+        requireAllNonNull(query, predicate);
+        return query.getTopMatches(clientWordIndex, clients::getClient, predicate, limit);
     }
 
     /**
@@ -169,27 +269,22 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Removes tags that are unreferenced from the list.
-     * This method should be invoked when
+     * Adds every tag in {@code tags} to the address book as a single change.
+     * No tag in {@code tags} may already exist in the address book or be the same as another tag in {@code tags}.
      */
-    public void removeUnreferencedTags() {
-        FilteredList<Tag> filteredList = getTagList().filtered(new TagIsUnreferenced());
-
-        if (filteredList.size() < 1) {
-            return;
-        }
-
-        logger.info("Cleaning unreferenced tags...");
-        FilteredList<Tag> removedTags = removeTagByFields(new TagIsUnreferenced());
-        logger.info(removedTags.size() + " unreferenced tags are cleared.");
+    public void addTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        this.tags.addAll(tags);
     }
 
     /**
-     * Removes client with matching {@code clientId} and {@code email} from this {@code AddressBook}.
-     * Client with {@code clientId} and {@code email} must exist in the address book.
+     * Returns the number of clients with a tag with the given {@code tagName}.
+     *
+     * @param tagName name of the tag
+     * @return number of clients referencing the tag
      */
-    public FilteredList<Tag> removeTagByFields(Predicate<Tag> predicate) {
-        return tags.removeByFields(predicate);
+    public int getTagReferenceCount(String tagName) {
+        return tags.getReferenceCount(tagName);
     }
 
     /**
@@ -214,8 +309,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Removes client with matching {@code clientId} and {@code email} from this {@code AddressBook}.
-     * Client with {@code clientId} and {@code email} must exist in the address book.
+     * Removes the clients with the given {@code clientIds} from this {@code AddressBook} as a single change.
+     * Every client must exist in the address book, otherwise the address book is left unchanged.
      */
     public List<Client> removeAllClients(List<ClientId> clientIds) {
         return clients.removeAll(clientIds);
@@ -223,13 +318,22 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     //// tag-level operations
 
+    /**
+     * Records the NextMeeting of every client whose meeting is over as the client's LastMet.
+     */
     public void updateLastMetDate() {
         clients.updateLastMetDate();
     }
 
+    /**
+     * Returns the end of the earliest meeting planned with a client in the address book, if any.
+     */
+    public Optional<LocalDateTime> getNextMeetingExpiry() {
+        return clients.getNextMeetingExpiry();
+    }
+
     @Override
     public ObservableList<Client> getClientList() {
-        updateLastMetDate();
         return clients.asUnmodifiableObservableList();
     }
 
@@ -238,19 +342,25 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     @Override
     public String getClientCounter() {
-        if (this.clientCounter == null) {
-            this.clientCounter = "0";
-        }
+        return String.valueOf(this.clientCounter);
+    }
 
-        return this.clientCounter;
+    /**
+     * Returns the {@code ClientId} to give the next client created, which is the clientCounter of the address book.
+     */
+    public ClientId getNextClientId() {
+        return new ClientId(this.clientCounter);
     }
 
     /**
      * Replaces the clientCounter of the address book with {@code clientCounter}.
+     * The clientCounter is reset to 0 if {@code clientCounter} is not a valid client id.
      */
     @Override
     public void setClientCounter(String clientCounter) {
-        this.clientCounter = clientCounter;
+        this.clientCounter = clientCounter != null && ClientId.isValidClientId(clientCounter)
+                ? Long.parseLong(clientCounter)
+                : 0;
     }
 
 
@@ -261,12 +371,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     @Override
     public void incrementClientCounter() {
-        try {
-            int clientCounterInt = Integer.parseInt(this.clientCounter) + 1;
-            this.clientCounter = String.valueOf(clientCounterInt);
-        } catch (NumberFormatException e) {
-            this.clientCounter = "1";
-        }
+        this.clientCounter++;
     }
 
     @Override
@@ -0,0 +1,110 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.client.Client;
+
+/**
+ * Records the meetings of the clients in a {@code Model} as their last met date once the meetings are over.
+ * A single timer is kept armed for the end of the earliest planned meeting and is re-armed whenever the client list
+ * changes, so the client list never needs to be scanned for meetings that are over.
+ */
+public class MeetingExpiryScheduler {
+    private static final Logger logger = LogsCenter.getLogger(MeetingExpiryScheduler.class);
+
+    private final Model model;
+    private final Executor modelExecutor;
+    private final ScheduledExecutorService timer;
+    private final Clock clock;
+    private final ListChangeListener<Client> clientListListener = change -> schedule();
+
+    private ScheduledFuture<?> pendingExpiry;
+    private LocalDateTime scheduledExpiry;
+
+    /**
+     * Creates a {@code MeetingExpiryScheduler} for {@code model}.
+     *
+     * @param model model whose meetings are recorded once over.
+     * @param modelExecutor executor that runs tasks on the thread that owns {@code model}.
+     */
+    public MeetingExpiryScheduler(Model model, Executor modelExecutor) {
+        this(model, modelExecutor, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "meeting-expiry");
+            thread.setDaemon(true);
+            return thread;
+        }), Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a {@code MeetingExpiryScheduler} for {@code model} that arms {@code timer} for the meetings, measuring
+     * the time left until each meeting ends by {@code clock}.
+     */
+    MeetingExpiryScheduler(Model model, Executor modelExecutor, ScheduledExecutorService timer, Clock clock) {
+        requireAllNonNull(model, modelExecutor, timer, clock);
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+        this.timer = timer;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts following the client list of the model and arms the timer for the earliest planned meeting.
+     */
+    public void start() {
+        model.getAddressBook().getClientList().addListener(clientListListener);
+        schedule();
+    }
+
+    /**
+     * Stops following the client list of the model and cancels the timer.
+     */
+    public void stop() {
+        model.getAddressBook().getClientList().removeListener(clientListListener);
+        timer.shutdownNow();
+    }
+
+    /**
+     * Arms the timer for the end of the earliest planned meeting, unless it is already armed for that time.
+     */
+    private void schedule() {
+        Optional<LocalDateTime> nextExpiry = model.getNextMeetingExpiry();
+        if (nextExpiry.isPresent() && nextExpiry.get().equals(scheduledExpiry)) {
+            return;
+        }
+
+        if (pendingExpiry != null) {
+            pendingExpiry.cancel(false);
+            pendingExpiry = null;
+        }
+        scheduledExpiry = nextExpiry.orElse(null);
+        if (scheduledExpiry == null) {
+            return;
+        }
+
+        // a meeting is only over once its end time has passed
+        long delay = Math.max(0, Duration.between(LocalDateTime.now(clock), scheduledExpiry).toMillis() + 1);
+        logger.fine("Next meeting ends at " + scheduledExpiry);
+        pendingExpiry = timer.schedule(() -> modelExecutor.execute(this::expireMeetings), delay,
+            TimeUnit.MILLISECONDS);
+    }
+
+    private void expireMeetings() {
+        pendingExpiry = null;
+        scheduledExpiry = null;
+        model.updateLastMetDate();
+        schedule();
+    }
+}
@@ -2,17 +2,23 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
-import java.util.Comparator;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.client.AttributeRange;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.Client.EditClientDescriptor;
 import seedu.address.model.client.ClientId;
+import seedu.address.model.client.ClientPreviewQuery;
+import seedu.address.model.client.FuzzyQuery;
+import seedu.address.model.client.SortByAttribute;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagExpression;
 import seedu.address.ui.ThemeType;
 
 /**
@@ -120,7 +126,8 @@ public interface Model {
     boolean hasClientId(ClientId clientId);
 
     /**
-     * Deletes the client with the matching Client ID and Email and returns the deleted client
+     * Deletes the clients with the given {@code clientIds} as a single change and returns the deleted clients.
+     * Every client must exist in the address book, otherwise no client is deleted.
      */
     List<Client> removeAllClients(List<ClientId> clientIds);
 
@@ -137,9 +144,11 @@ public interface Model {
     Client createClient(EditClientDescriptor client);
 
     /**
-     * Replaces the given client {@code target} with {@code editedClient}.
-     * {@code target} must exist in the address book.
-     * The client identity of {@code editedClient} must not be the same as another existing client in the address book.
+     * Replaces the clients with the given {@code clientIds} with their edited versions as a single change and returns
+     * the edited clients.
+     * Every client must exist in the address book.
+     * The client identity of every edited client must not be the same as another client in the address book after
+     * the edit, otherwise no client is edited.
      */
     List<Client> setAllClients(List<ClientId> clientIds, EditClientDescriptor editedClientDescriptor);
 
@@ -151,6 +160,16 @@ public interface Model {
      */
     Client getClient(ClientId clientId);
 
+    /**
+     * Records the next meeting of every client whose meeting is over as the client's last met date.
+     */
+    void updateLastMetDate();
+
+    /**
+     * Returns the end of the earliest meeting planned with a client in the address book, if any.
+     */
+    Optional<LocalDateTime> getNextMeetingExpiry();
+
     /**
      * Returns true if a tag with the same identity as {@code tagName} exists in the address book.
      */
@@ -181,7 +200,11 @@ public interface Model {
      */
     ObservableList<Client> getSortedNextMeetingList();
 
-    void filterSortedNextMeetingList(LocalDate date);
+    /**
+     * Updates the filter of the next meeting list to show the meetings from {@code startDate} to {@code endDate}
+     * inclusive, or every client if either date is null.
+     */
+    void filterSortedNextMeetingList(LocalDate startDate, LocalDate endDate);
 
     /**
      * Updates the filter of the filtered client list to filter by the given {@code predicate}.
@@ -190,19 +213,95 @@ public interface Model {
      */
     void updateFilteredClientList(Predicate<Client> predicate);
 
+    /**
+     * Updates the filter of the filtered client list to filter by the given {@code predicate}, reusing the result of
+     * the same query found earlier if no client has changed since.
+     *
+     * @param queryKey equal for queries with the same result.
+     * @throws NullPointerException if {@code queryKey} or {@code predicate} is null.
+     */
+    void updateFilteredClientList(Object queryKey, Predicate<Client> predicate);
+
     /**
      * Updates the filter of the filtered client list to filter by current predicate and the given {@code predicate}.
+     * Only the clients currently in the filtered client list are tested against {@code predicate}.
      *
      * @throws NullPointerException if {@code predicate} is null.
      */
     void filterFilteredClientList(Predicate<Client> predicate);
 
     /**
-     * Sorts the filtered client list to sort by the given {@code sorter}.
+     * Updates the filter of the filtered client list to filter by current predicate and the given {@code predicate},
+     * reusing the result of the same queries found earlier if no client has changed since.
+     *
+     * @param queryKey equal for queries with the same result.
+     * @throws NullPointerException if {@code queryKey} or {@code predicate} is null.
+     */
+    void filterFilteredClientList(Object queryKey, Predicate<Client> predicate);
+
+    /**
+     * Returns a query finding the clients {@link #updateFilteredClientList(Object, Predicate)} would show for
+     * {@code predicate}, over a snapshot of every client taken now so that it can be run off the JavaFX thread.
      *
      * @throws NullPointerException if {@code predicate} is null.
      */
-    void sortFilteredClientList(Comparator<Client> sorter);
+    ClientPreviewQuery previewUpdateFilteredClientList(Predicate<Client> predicate);
+
+    /**
+     * Returns a query finding the clients {@link #filterFilteredClientList(Object, Predicate)} would show for
+     * {@code predicate}, over a snapshot of the clients currently in the filtered client list taken now so that it
+     * can be run off the JavaFX thread.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    ClientPreviewQuery previewFilterFilteredClientList(Predicate<Client> predicate);
+
+    /**
+     * Returns a predicate that tests whether a client in the address book satisfies {@code tagExpression}.
+     *
+     * @throws NullPointerException if {@code tagExpression} is null.
+     */
+    Predicate<Client> createTagPredicate(TagExpression tagExpression);
+
+    /**
+     * Returns a predicate that tests whether a client in the address book is within every one of {@code ranges}.
+     *
+     * @throws NullPointerException if {@code ranges} is null.
+     */
+    Predicate<Client> createRangePredicate(List<AttributeRange> ranges);
+
+    /**
+     * Returns a predicate that tests whether any attribute or tag of a client in the address book contains any of
+     * {@code keywords}, ignoring case.
+     *
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    Predicate<Client> createKeywordPredicate(List<String> keywords);
+
+    /**
+     * Returns up to {@code limit} clients matching {@code query} and {@code predicate}, ranked from the closest match.
+     *
+     * @throws NullPointerException if {@code query} or {@code predicate} is null.
+     */
+    List<Client> getFuzzyMatches(FuzzyQuery query, Predicate<Client> predicate, int limit);
+
+    /**
+     * Updates the filtered client list to show only {@code rankedClients}, in the order given, until the filter is
+     * next updated by {@link #updateFilteredClientList(Predicate)} or the list is sorted. The clients shown are kept
+     * through later edits, but not clients added later.
+     *
+     * @throws NullPointerException if {@code rankedClients} is null.
+     */
+    void rankFilteredClientList(List<Client> rankedClients);
+
+    /**
+     * Sorts the filtered client list to sort by the given {@code sorter}, then by client id.
+     * The clients are kept sorted by {@code sorter} as they change, and sorting by a {@code sorter} used before does
+     * not sort the clients again.
+     *
+     * @throws NullPointerException if {@code sorter} is null.
+     */
+    void sortFilteredClientList(SortByAttribute sorter);
 
     /**
      * Returns an unmodifiable view of the client to view
@@ -222,13 +321,14 @@ public interface Model {
     String getNameOfClientToView();
 
     /**
-     * returns a list of NextMeeting that are on the given {@code date}.
-     * Updates the filter of the filtered client to view list to filter by the given {@code predicate}.
+     * Returns the clients with meetings from {@code startDate} to {@code endDate} inclusive, in the order of their
+     * meetings.
      *
-     * @param date of the schedule
-     * @return the list of NextMeetings with the given {@code date}.
+     * @param startDate first date of the schedule
+     * @param endDate last date of the schedule
+     * @return the list of clients with meetings within the dates.
      */
-    List<Client> retrieveSchedule(LocalDate date);
+    List<Client> retrieveSchedule(LocalDate startDate, LocalDate endDate);
 
     /**
      * @throws NullPointerException if {@code predicate} is null.
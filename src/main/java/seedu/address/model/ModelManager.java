@@ -2,27 +2,39 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_CLIENTID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NEXTMEETING;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
-import java.util.Comparator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.client.AttributeRange;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.Client.EditClientDescriptor;
 import seedu.address.model.client.ClientId;
+import seedu.address.model.client.ClientInQueryResultPredicate;
+import seedu.address.model.client.ClientPreviewQuery;
+import seedu.address.model.client.FuzzyQuery;
+import seedu.address.model.client.IndexedClientPredicate;
+import seedu.address.model.client.MaterializedClientFilter;
 import seedu.address.model.client.SortByAttribute;
+import seedu.address.model.client.SortedClientList;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagExpression;
 import seedu.address.storage.AddressBookList;
 import seedu.address.storage.ThemeList;
 import seedu.address.ui.ThemeType;
@@ -32,16 +44,26 @@ import seedu.address.ui.ThemeType;
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final SortByAttribute NEXT_MEETING_ORDER = new SortByAttribute(PREFIX_NEXTMEETING);
+    private static final int QUERY_CACHE_CAPACITY = 32;
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final SortedList<Client> sortedClients;
+    private final SortedClientList sortedClients;
+    private final SortedClientList sortedNextMeetings;
     private final FilteredList<Client> filteredClients;
     private final FilteredList<Client> clientToView;
     private final FilteredList<Client> shownNextMeetings;
     private final FilteredList<Tag> filteredTags;
     private final AddressBookList addressBookList;
     private final ThemeList themeList;
+    private final QueryResultCache<Set<ClientId>> clientQueryResults =
+            new QueryResultCache<>("Client query", QUERY_CACHE_CAPACITY);
+    private final QueryResultCache<List<Client>> scheduleResults =
+            new QueryResultCache<>("Schedule", QUERY_CACHE_CAPACITY);
+
+    /** The queries the filtered client list shows the result of, in the order applied, or null if not known. */
+    private List<Object> shownQueries = List.of();
 
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
@@ -62,10 +84,12 @@ public class ModelManager implements Model {
         this.themeList = new ThemeList(userPrefs.getThemeType());
 
         ObservableList<Client> clientList = this.addressBook.getClientList();
-        sortedClients = new SortedList<>(clientList);
-        filteredClients = new FilteredList<>(sortedClients);
+        sortedClients = new SortedClientList(clientList, this.addressBook::getSortedClients);
+        filteredClients = new FilteredList<>(sortedClients.asUnmodifiableObservableList());
 
-        shownNextMeetings = new FilteredList<>(checkAllNextMeetings(clientList));
+        sortedNextMeetings = new SortedClientList(clientList, this.addressBook::getSortedClients);
+        sortedNextMeetings.setSorter(NEXT_MEETING_ORDER);
+        shownNextMeetings = new FilteredList<>(sortedNextMeetings.asUnmodifiableObservableList());
 
 
         // TODO: filter by colors, etc
@@ -188,7 +212,7 @@ public class ModelManager implements Model {
 
     @Override
     public Client createClient(EditClientDescriptor clientDescriptor) {
-        ClientId clientId = new ClientId(addressBook.getClientCounter());
+        ClientId clientId = addressBook.getNextClientId();
         Client client = clientDescriptor.createClient(clientId);
         if (addressBook.hasClient(client)) {
             return null;
@@ -211,6 +235,16 @@ public class ModelManager implements Model {
         return addressBook.getClient(clientId);
     }
 
+    @Override
+    public void updateLastMetDate() {
+        addressBook.updateLastMetDate();
+    }
+
+    @Override
+    public Optional<LocalDateTime> getNextMeetingExpiry() {
+        return addressBook.getNextMeetingExpiry();
+    }
+
     @Override
     public boolean hasTagName(String tagName) {
         requireNonNull(tagName);
@@ -245,18 +279,38 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void filterSortedNextMeetingList(LocalDate date) {
-        if (date == null) {
+    public void filterSortedNextMeetingList(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
             shownNextMeetings.setPredicate(PREDICATE_SHOW_ALL_CLIENTS);
         } else {
-            shownNextMeetings.setPredicate((client) -> client.isSameDayMeeting(date));
+            // the clients planned to meet are found from the meeting index, so the panel is not scanned by date
+            Set<ClientId> scheduledClientIds = retrieveSchedule(startDate, endDate).stream()
+                    .map(Client::getClientId)
+                    .collect(Collectors.toSet());
+            shownNextMeetings.setPredicate(new ClientInQueryResultPredicate(scheduledClientIds,
+                    addressBook.getVersion(), addressBook::getVersion, (client) ->
+                    client.hasNextMeetingBetween(startDate, endDate)));
         }
     }
 
     @Override
     public void updateFilteredClientList(Predicate<Client> predicate) {
         requireNonNull(predicate);
+        sortedClients.clearRanking();
         filteredClients.setPredicate(predicate);
+        shownQueries = predicate == PREDICATE_SHOW_ALL_CLIENTS ? List.of() : null;
+    }
+
+    @Override
+    public void updateFilteredClientList(Object queryKey, Predicate<Client> predicate) {
+        requireAllNonNull(queryKey, predicate);
+        List<Object> queries = List.of(queryKey);
+        long version = addressBook.getVersion();
+        Set<ClientId> clientIds = clientQueryResults.get(queries, version, () ->
+                getClientIds(addressBook.getClientList(), predicate));
+        updateFilteredClientList(new ClientInQueryResultPredicate(clientIds, version, addressBook::getVersion,
+                predicate));
+        shownQueries = queries;
     }
 
     @Override
@@ -266,12 +320,80 @@ public class ModelManager implements Model {
         if (currentPredicate == null) {
             currentPredicate = PREDICATE_SHOW_ALL_CLIENTS;
         }
-        filteredClients.setPredicate(predicate.and(currentPredicate));
+        filteredClients.setPredicate(new MaterializedClientFilter(predicate, currentPredicate, filteredClients,
+                addressBook.getVersion(), addressBook::getVersion));
+        shownQueries = null;
+    }
+
+    @Override
+    public void filterFilteredClientList(Object queryKey, Predicate<Client> predicate) {
+        requireAllNonNull(queryKey, predicate);
+        if (shownQueries == null) {
+            filterFilteredClientList(predicate);
+            return;
+        }
+
+        List<Object> queries = new ArrayList<>(shownQueries);
+        queries.add(queryKey);
+        Predicate<? super Client> currentPredicate = filteredClients.getPredicate();
+        if (currentPredicate == null) {
+            currentPredicate = PREDICATE_SHOW_ALL_CLIENTS;
+        }
+        long version = addressBook.getVersion();
+        Set<ClientId> clientIds = clientQueryResults.get(queries, version, () ->
+                getClientIds(filteredClients, predicate));
+        filteredClients.setPredicate(new ClientInQueryResultPredicate(clientIds, version, addressBook::getVersion,
+                predicate.and(currentPredicate)));
+        shownQueries = List.copyOf(queries);
+    }
+
+    @Override
+    public ClientPreviewQuery previewUpdateFilteredClientList(Predicate<Client> predicate) {
+        requireNonNull(predicate);
+        return new ClientPreviewQuery(List.copyOf(sortedClients.getUnrankedClients()), predicate,
+                addressBook.getVersion(), addressBook::getVersion);
+    }
+
+    @Override
+    public ClientPreviewQuery previewFilterFilteredClientList(Predicate<Client> predicate) {
+        requireNonNull(predicate);
+        return new ClientPreviewQuery(List.copyOf(filteredClients), predicate, addressBook.getVersion(),
+                addressBook::getVersion);
+    }
+
+    /**
+     * Returns the ids of the clients in {@code clients} matching {@code predicate}.
+     * Once there are more clients than the parallel query threshold in the user prefs, a snapshot of the clients is
+     * split across the common fork/join pool and tested on several threads, with the same result. A predicate reading
+     * the indexes of the address book is resolved on this thread first, so that the pool never reads the indexes.
+     */
+    private Set<ClientId> getClientIds(List<Client> clients, Predicate<Client> predicate) {
+        if (clients.size() > userPrefs.getParallelQueryThreshold()) {
+            Client[] snapshot = clients.toArray(new Client[0]);
+            Predicate<Client> resolvedPredicate = predicate instanceof IndexedClientPredicate
+                    ? ((IndexedClientPredicate) predicate).resolve()
+                    : predicate;
+            logger.fine("Testing " + snapshot.length + " clients in parallel");
+            return Arrays.stream(snapshot)
+                    .parallel()
+                    .filter(resolvedPredicate)
+                    .map(Client::getClientId)
+                    .collect(Collectors.toSet());
+        }
+
+        Set<ClientId> clientIds = new HashSet<>();
+        for (Client client : clients) {
+            if (predicate.test(client)) {
+                clientIds.add(client.getClientId());
+            }
+        }
+        return clientIds;
     }
 
     @Override
-    public void sortFilteredClientList(Comparator<Client> sorter) {
-        sortedClients.setComparator(sorter);
+    public void sortFilteredClientList(SortByAttribute sorter) {
+        requireNonNull(sorter);
+        sortedClients.setSorter(sorter);
     }
 
     /**
@@ -296,23 +418,51 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public List<Client> retrieveSchedule(LocalDate date) {
-        return addressBook.retrieveLastMeetings(date);
+    public List<Client> retrieveSchedule(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        return scheduleResults.get(List.of(startDate, endDate), addressBook.getVersion(), () ->
+                List.copyOf(addressBook.retrieveNextMeetings(startDate, endDate)));
     }
 
     @Override
-    public void updateClientToView(Predicate<Client> predicate) {
-        requireNonNull(predicate);
-        clientToView.setPredicate(predicate);
+    public Predicate<Client> createTagPredicate(TagExpression tagExpression) {
+        requireNonNull(tagExpression);
+        return addressBook.createTagPredicate(tagExpression);
+    }
+
+    @Override
+    public Predicate<Client> createRangePredicate(List<AttributeRange> ranges) {
+        requireNonNull(ranges);
+        return addressBook.createRangePredicate(ranges);
     }
 
-    private SortedList<Client> checkAllNextMeetings(ObservableList<Client> filteredClients) {
-        SortedList<Client> sortedMeetings = new SortedList<>(filteredClients);
-        Comparator<Client> nextMeetingComparator = new SortByAttribute(PREFIX_NEXTMEETING)
-            .thenCompareByAttribute(PREFIX_CLIENTID);
-        sortedMeetings.setComparator(nextMeetingComparator);
+    @Override
+    public Predicate<Client> createKeywordPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.createKeywordPredicate(keywords);
+    }
 
-        return sortedMeetings;
+    @Override
+    public List<Client> getFuzzyMatches(FuzzyQuery query, Predicate<Client> predicate, int limit) {
+        requireAllNonNull(query, predicate);
+        return addressBook.getFuzzyMatches(query, predicate, limit);
+    }
+
+    @Override
+    public void rankFilteredClientList(List<Client> rankedClients) {
+        requireNonNull(rankedClients);
+        Set<ClientId> rankedClientIds = rankedClients.stream()
+                .map(Client::getClientId)
+                .collect(Collectors.toSet());
+        sortedClients.setRanking(rankedClients);
+        filteredClients.setPredicate(client -> rankedClientIds.contains(client.getClientId()));
+        shownQueries = null;
+    }
+
+    @Override
+    public void updateClientToView(Predicate<Client> predicate) {
+        requireNonNull(predicate);
+        clientToView.setPredicate(predicate);
     }
 
     @Override
@@ -331,7 +481,8 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return addressBook.equals(other.addressBook)
                 && userPrefs.equals(other.userPrefs)
-                && sortedClients.equals(other.sortedClients)
+                && sortedClients.asUnmodifiableObservableList()
+                        .equals(other.sortedClients.asUnmodifiableObservableList())
                 && filteredClients.equals(other.filteredClients)
                 && filteredTags.equals(other.filteredTags)
                 && clientToView.equals(other.clientToView)
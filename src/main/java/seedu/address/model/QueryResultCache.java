@@ -0,0 +1,91 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Keeps the results of the most recently used queries, each with the version of the address book it was found at.
+ * A result is reused only while the address book is at the same version, and the least recently used result is
+ * dropped once more than the capacity of results are kept.
+ *
+ * @param <V> the type of the results
+ */
+public class QueryResultCache<V> {
+    private static final Logger logger = LogsCenter.getLogger(QueryResultCache.class);
+
+    private final String name;
+    private final Map<Object, VersionedResult<V>> results;
+
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates an empty cache named {@code name} in the log, keeping up to {@code capacity} results.
+     */
+    public QueryResultCache(String name, int capacity) {
+        requireNonNull(name);
+        checkArgument(capacity > 0, "Capacity should be positive");
+        this.name = name;
+        results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, VersionedResult<V>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the result of the query {@code key} at {@code version}, found by {@code query} unless a result of the
+     * same query at the same version is kept.
+     *
+     * @param key equal for queries with the same result.
+     */
+    public V get(Object key, long version, Supplier<V> query) {
+        requireAllNonNull(key, query);
+        VersionedResult<V> result = results.get(key);
+        if (result != null && result.version == version) {
+            hitCount++;
+            logger.info(String.format("%s cache hit (hits: %d, misses: %d)", name, hitCount, missCount));
+            return result.result;
+        }
+
+        missCount++;
+        logger.info(String.format("%s cache miss (hits: %d, misses: %d)", name, hitCount, missCount));
+        V newResult = query.get();
+        results.put(key, new VersionedResult<>(version, newResult));
+        return newResult;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of results kept.
+     */
+    public int size() {
+        return results.size();
+    }
+
+    private static class VersionedResult<V> {
+        private final long version;
+        private final V result;
+
+        private VersionedResult(long version, V result) {
+            this.version = version;
+            this.result = result;
+        }
+    }
+}
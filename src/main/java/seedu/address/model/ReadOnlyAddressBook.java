@@ -36,4 +36,10 @@ public interface ReadOnlyAddressBook {
      * Returns tag list of the address book.
      */
     List<Tag> getTagList();
+
+    /**
+     * Returns a number that increases whenever a client is added, edited or removed, so that the address book is
+     * unchanged while the number is unchanged.
+     */
+    long getVersion();
 }
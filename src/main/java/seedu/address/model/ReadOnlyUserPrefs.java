@@ -17,4 +17,20 @@ public interface ReadOnlyUserPrefs {
     Path getAddressBookDirectory();
 
     ThemeType getThemeType();
+
+    /**
+     * Returns the number of clients above which queries test clients on several threads.
+     */
+    int getParallelQueryThreshold();
+
+    /**
+     * Returns true if the address book is saved as indented JSON to be read by the user, rather than compact JSON.
+     */
+    boolean isAddressBookPrettyPrinted();
+
+    /**
+     * Returns the longest time in milliseconds a change to the address book waits to be saved in the background, or
+     * 0 if the change is saved before the result of its command is shown.
+     */
+    int getAddressBookSaveDelay();
 }
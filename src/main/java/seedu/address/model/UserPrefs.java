@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.util.Objects;
@@ -17,12 +18,16 @@ import seedu.address.ui.ThemeType;
 public class UserPrefs implements ReadOnlyUserPrefs {
     public static final Path DEFAULT_ADDRESSBOOK_DIRECTORY = Path.of("data");
     public static final Path DEFAULT_ADDRESSBOOK_FILE = DEFAULT_ADDRESSBOOK_DIRECTORY.resolve("addressbook.json");
+    public static final int DEFAULT_PARALLEL_QUERY_THRESHOLD = 10000;
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookDirectory = DEFAULT_ADDRESSBOOK_DIRECTORY;
     private final SimpleObjectProperty<Path> addressBookFilePath =
             new SimpleObjectProperty<>(DEFAULT_ADDRESSBOOK_FILE);
     private final SimpleObjectProperty<ThemeType> theme = new SimpleObjectProperty<>(ThemeList.DEFAULT_THEME);
+    private int parallelQueryThreshold = DEFAULT_PARALLEL_QUERY_THRESHOLD;
+    private boolean isAddressBookPrettyPrinted = true;
+    private int addressBookSaveDelay = 0;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -46,6 +51,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setAddressBookDirectory(newUserPrefs.getAddressBookDirectory());
         setTheme(newUserPrefs.getThemeType());
+        setParallelQueryThreshold(newUserPrefs.getParallelQueryThreshold());
+        setAddressBookPrettyPrinted(newUserPrefs.isAddressBookPrettyPrinted());
+        setAddressBookSaveDelay(newUserPrefs.getAddressBookSaveDelay());
     }
 
     @Override
@@ -91,6 +99,35 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.theme.set(theme);
     }
 
+    @Override
+    public int getParallelQueryThreshold() {
+        return parallelQueryThreshold;
+    }
+
+    public void setParallelQueryThreshold(int parallelQueryThreshold) {
+        checkArgument(parallelQueryThreshold > 0, "Parallel query threshold should be positive");
+        this.parallelQueryThreshold = parallelQueryThreshold;
+    }
+
+    @Override
+    public boolean isAddressBookPrettyPrinted() {
+        return isAddressBookPrettyPrinted;
+    }
+
+    public void setAddressBookPrettyPrinted(boolean isAddressBookPrettyPrinted) {
+        this.isAddressBookPrettyPrinted = isAddressBookPrettyPrinted;
+    }
+
+    @Override
+    public int getAddressBookSaveDelay() {
+        return addressBookSaveDelay;
+    }
+
+    public void setAddressBookSaveDelay(int addressBookSaveDelay) {
+        checkArgument(addressBookSaveDelay >= 0, "Address book save delay should not be negative");
+        this.addressBookSaveDelay = addressBookSaveDelay;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -103,12 +140,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.get().equals(o.addressBookFilePath.get());
+                && addressBookFilePath.get().equals(o.addressBookFilePath.get())
+                && parallelQueryThreshold == o.parallelQueryThreshold
+                && isAddressBookPrettyPrinted == o.isAddressBookPrettyPrinted
+                && addressBookSaveDelay == o.addressBookSaveDelay;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, parallelQueryThreshold, isAddressBookPrettyPrinted,
+                addressBookSaveDelay);
     }
 
     @Override
@@ -116,6 +157,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nParallel query threshold : " + parallelQueryThreshold);
+        sb.append("\nPretty print address book : " + isAddressBookPrettyPrinted);
+        sb.append("\nAddress book save delay : " + addressBookSaveDelay);
         return sb.toString();
     }
 
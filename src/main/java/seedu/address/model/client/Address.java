@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.StringUtil.isWithinLengthLimit;
 
+import seedu.address.commons.core.Interner;
+
 /**
  * Represents a Client's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -20,6 +22,8 @@ public class Address extends StringComparable<Address> implements OptionalString
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
     // TODO: use Optional
+    private static final Interner<Address> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -36,6 +40,15 @@ public class Address extends StringComparable<Address> implements OptionalString
         value = address;
     }
 
+    /**
+     * Returns an {@code Address} with the given address, shared with every other client at the same address.
+     *
+     * @param address A valid address.
+     */
+    public static Address of(String address) {
+        return INTERNER.intern(new Address(address));
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
@@ -0,0 +1,246 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISPOSABLEINCOME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LASTMET;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NEXTMEETING;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RISKAPPETITE;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.parser.Prefix;
+
+/**
+ * Represents a range of values of a numeric or date attribute of a client, given as {@code >=X}, {@code >X},
+ * {@code <=X}, {@code <X} or {@code X..Y}, or as {@code this-week} or {@code this-month} for a date attribute.
+ * Every bound is kept as a whole number key of the attribute, being the cents of a disposable income, the level of a
+ * risk appetite and the epoch day of a date, so that a range is a closed interval of keys.
+ * Guarantees: immutable; is valid as declared in {@link #isValidRangeExpression(Prefix, String)}
+ */
+public class AttributeRange implements Predicate<Client> {
+
+    public static final String MESSAGE_CONSTRAINTS = "Ranges should be given as >=X, >X, <=X, <X or X..Y, "
+            + "where X and Y are a disposable income for d/, a risk appetite for r/ and a date in the form of "
+            + "dd-MM-yyyy for l/ and m/, or as this-week or this-month for l/ and m/, e.g. d/>=5000 r/2..4";
+
+    /** Prefixes of the attributes that can be filtered by a range. */
+    public static final List<Prefix> RANGE_PREFIXES =
+            List.of(PREFIX_DISPOSABLEINCOME, PREFIX_RISKAPPETITE, PREFIX_LASTMET, PREFIX_NEXTMEETING);
+
+    public static final String THIS_WEEK = "this-week";
+    public static final String THIS_MONTH = "this-month";
+
+    private static final String BETWEEN_DELIMITER = "..";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    private final Prefix prefix;
+    private final long min;
+    private final long max;
+
+    /**
+     * Constructs an {@code AttributeRange} of the attribute with {@code prefix}.
+     *
+     * @param rangeExpression a valid range expression of the attribute.
+     */
+    public AttributeRange(Prefix prefix, String rangeExpression) {
+        requireAllNonNull(prefix, rangeExpression);
+        checkArgument(isValidRangeExpression(prefix, rangeExpression), MESSAGE_CONSTRAINTS);
+        this.prefix = prefix;
+
+        String expression = rangeExpression.trim();
+        if (expression.equalsIgnoreCase(THIS_WEEK)) {
+            LocalDate startOfWeek = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            min = startOfWeek.toEpochDay();
+            max = startOfWeek.plusDays(6).toEpochDay();
+        } else if (expression.equalsIgnoreCase(THIS_MONTH)) {
+            LocalDate today = LocalDate.now();
+            min = today.withDayOfMonth(1).toEpochDay();
+            max = today.with(TemporalAdjusters.lastDayOfMonth()).toEpochDay();
+        } else if (expression.startsWith(">=")) {
+            min = parseKey(prefix, expression.substring(2));
+            max = Long.MAX_VALUE;
+        } else if (expression.startsWith(">")) {
+            min = parseKey(prefix, expression.substring(1)) + 1;
+            max = Long.MAX_VALUE;
+        } else if (expression.startsWith("<=")) {
+            min = Long.MIN_VALUE;
+            max = parseKey(prefix, expression.substring(2));
+        } else if (expression.startsWith("<")) {
+            min = Long.MIN_VALUE;
+            max = parseKey(prefix, expression.substring(1)) - 1;
+        } else {
+            int delimiterIndex = expression.indexOf(BETWEEN_DELIMITER);
+            min = parseKey(prefix, expression.substring(0, delimiterIndex));
+            max = parseKey(prefix, expression.substring(delimiterIndex + BETWEEN_DELIMITER.length()));
+        }
+    }
+
+    /**
+     * Returns true if {@code test} is meant as a range of the attribute with {@code prefix} rather than a keyword,
+     * whether or not it is a valid range.
+     */
+    public static boolean isRangeExpression(Prefix prefix, String test) {
+        requireAllNonNull(prefix, test);
+        if (!RANGE_PREFIXES.contains(prefix)) {
+            return false;
+        }
+
+        String expression = test.trim();
+        return expression.startsWith("<") || expression.startsWith(">") || expression.contains(BETWEEN_DELIMITER)
+                || (isDatePrefix(prefix)
+                        && (expression.equalsIgnoreCase(THIS_WEEK) || expression.equalsIgnoreCase(THIS_MONTH)));
+    }
+
+    /**
+     * Returns true if {@code test} is a valid range of the attribute with {@code prefix}.
+     */
+    public static boolean isValidRangeExpression(Prefix prefix, String test) {
+        if (!isRangeExpression(prefix, test)) {
+            return false;
+        }
+
+        String expression = test.trim();
+        if (expression.equalsIgnoreCase(THIS_WEEK) || expression.equalsIgnoreCase(THIS_MONTH)) {
+            return true;
+        }
+        if (expression.startsWith(">=") || expression.startsWith("<=")) {
+            return isValidBound(prefix, expression.substring(2));
+        }
+        if (expression.startsWith(">") || expression.startsWith("<")) {
+            return isValidBound(prefix, expression.substring(1));
+        }
+
+        int delimiterIndex = expression.indexOf(BETWEEN_DELIMITER);
+        return isValidBound(prefix, expression.substring(0, delimiterIndex))
+                && isValidBound(prefix, expression.substring(delimiterIndex + BETWEEN_DELIMITER.length()));
+    }
+
+    /**
+     * Returns the key of the attribute with {@code prefix} of {@code client}, or null if the attribute is not given.
+     */
+    public static Long getKey(Prefix prefix, Client client) {
+        requireAllNonNull(prefix, client);
+        if (prefix.equals(PREFIX_DISPOSABLEINCOME)) {
+            return client.getDisposableIncome().valueInCents;
+        }
+        if (prefix.equals(PREFIX_RISKAPPETITE)) {
+            RiskAppetite riskAppetite = client.getRiskAppetite();
+            return riskAppetite.value.isEmpty() ? null : (long) riskAppetite.level;
+        }
+        if (prefix.equals(PREFIX_LASTMET)) {
+            LocalDate lastMet = client.getLastMet().value;
+            return lastMet == null ? null : lastMet.toEpochDay();
+        }
+        if (prefix.equals(PREFIX_NEXTMEETING)) {
+            LocalDate nextMeeting = client.getNextMeetingDate();
+            return nextMeeting == null ? null : nextMeeting.toEpochDay();
+        }
+        return null;
+    }
+
+    public Prefix getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Returns the smallest key within the range.
+     */
+    public long getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the largest key within the range.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns true if no key is within the range.
+     */
+    public boolean isEmpty() {
+        return min > max;
+    }
+
+    @Override
+    public boolean test(Client client) {
+        requireNonNull(client);
+        Long key = getKey(prefix, client);
+        return key != null && min <= key && key <= max;
+    }
+
+    private static boolean isDatePrefix(Prefix prefix) {
+        return prefix.equals(PREFIX_LASTMET) || prefix.equals(PREFIX_NEXTMEETING);
+    }
+
+    private static boolean isValidBound(Prefix prefix, String bound) {
+        String trimmedBound = bound.trim();
+        if (trimmedBound.isEmpty()) {
+            return false;
+        }
+
+        if (prefix.equals(PREFIX_DISPOSABLEINCOME)) {
+            return DisposableIncome.isValidDisposableIncome(trimmedBound);
+        }
+        if (prefix.equals(PREFIX_RISKAPPETITE)) {
+            return RiskAppetite.isValidRiskAppetite(trimmedBound);
+        }
+        return parseDate(trimmedBound) != null;
+    }
+
+    private static long parseKey(Prefix prefix, String bound) {
+        String trimmedBound = bound.trim();
+        if (prefix.equals(PREFIX_DISPOSABLEINCOME)) {
+            return new DisposableIncome(trimmedBound).valueInCents;
+        }
+        if (prefix.equals(PREFIX_RISKAPPETITE)) {
+            return new RiskAppetite(trimmedBound).level;
+        }
+        return parseDate(trimmedBound).toEpochDay();
+    }
+
+    /**
+     * Returns the date given in the dd-MM-yyyy format, or null if {@code date} is not a valid date.
+     */
+    private static LocalDate parseDate(String date) {
+        if (!StringUtil.isValidDate(date)) {
+            return null;
+        }
+
+        try {
+            return LocalDate.parse(date, DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AttributeRange // instanceof handles nulls
+                && prefix.equals(((AttributeRange) other).prefix)
+                && min == ((AttributeRange) other).min
+                && max == ((AttributeRange) other).max); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(prefix, min, max);
+    }
+
+    @Override
+    public String toString() {
+        return prefix + "[" + min + ".." + max + "]";
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list backed by an {@code ArrayList} that can replace or remove elements at several positions as a
+ * single change, so that listeners are notified once per batch instead of once per element.
+ */
+class BatchObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Replaces the element at every position in {@code replacements} with its mapped element as a single change.
+     */
+    public void setAllAt(SortedMap<Integer, E> replacements) {
+        requireNonNull(replacements);
+        if (replacements.isEmpty()) {
+            return;
+        }
+
+        beginChange();
+        try {
+            for (Map.Entry<Integer, E> replacement : replacements.entrySet()) {
+                int position = replacement.getKey();
+                nextSet(position, elements.set(position, replacement.getValue()));
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Removes the elements at every position in {@code positions} as a single change, in a single pass over the list.
+     */
+    public void removeAllAt(SortedSet<Integer> positions) {
+        requireNonNull(positions);
+        if (positions.isEmpty()) {
+            return;
+        }
+
+        beginChange();
+        try {
+            int write = positions.first();
+            int removedCount = 0;
+            for (int read = positions.first(); read < elements.size(); read++) {
+                if (positions.contains(read)) {
+                    nextRemove(read - removedCount, elements.get(read));
+                    removedCount++;
+                } else {
+                    elements.set(write++, elements.get(read));
+                }
+            }
+            elements.subList(write, elements.size()).clear();
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Applies {@code changes}, made through the methods of this list, as a single change.
+     */
+    public void changeAll(Runnable changes) {
+        requireNonNull(changes);
+        beginChange();
+        try {
+            changes.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
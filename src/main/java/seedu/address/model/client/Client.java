@@ -70,8 +70,8 @@ public class Client {
         this.tags.forEach(tag -> tag.addClient(this));
     }
 
-    public boolean isSameDayMeeting(LocalDate date) {
-        return nextMeeting.isSameDay(date);
+    public boolean hasNextMeetingBetween(LocalDate startDate, LocalDate endDate) {
+        return nextMeeting.isBetween(startDate, endDate);
     }
 
     /**
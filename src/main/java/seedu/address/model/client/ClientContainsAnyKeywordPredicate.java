@@ -0,0 +1,68 @@
+package seedu.address.model.client;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Tests that any of a {@code Client}'s attributes or tags contains any of the keywords given, ignoring case.
+ * The clients containing the keywords are found once from the trigrams of a {@code ClientTrigramIndex} and found
+ * again only after the index changes, so testing a client is a single set lookup.
+ */
+public class ClientContainsAnyKeywordPredicate implements IndexedClientPredicate {
+    private final List<String> keywords;
+    private final ClientTrigramIndex index;
+
+    /** Only found and read on the thread that changes the index, other threads test {@link #resolve()}. */
+    private Set<ClientId> matchingClientIds;
+    private long evaluatedVersion;
+
+    /**
+     * Creates a predicate testing clients against {@code keywords} using the text indexed in {@code index}.
+     */
+    public ClientContainsAnyKeywordPredicate(List<String> keywords, ClientTrigramIndex index) {
+        requireAllNonNull(keywords, index);
+        this.keywords = List.copyOf(keywords);
+        this.index = index;
+    }
+
+    @Override
+    public boolean test(Client client) {
+        return keywords.isEmpty() || getMatchingClientIds().contains(client.getClientId());
+    }
+
+    @Override
+    public Predicate<Client> resolve() {
+        if (keywords.isEmpty()) {
+            return client -> true;
+        }
+
+        Set<ClientId> clientIds = Collections.unmodifiableSet(getMatchingClientIds());
+        return client -> clientIds.contains(client.getClientId());
+    }
+
+    private Set<ClientId> getMatchingClientIds() {
+        Set<ClientId> clientIds = matchingClientIds;
+        if (clientIds == null || evaluatedVersion != index.getVersion()) {
+            clientIds = new HashSet<>();
+            for (String keyword : keywords) {
+                clientIds.addAll(index.getClientIdsContaining(keyword));
+            }
+            evaluatedVersion = index.getVersion();
+            matchingClientIds = clientIds;
+        }
+        return clientIds;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ClientContainsAnyKeywordPredicate // instanceof handles nulls
+                && keywords.equals(((ClientContainsAnyKeywordPredicate) other).keywords)
+                && index == ((ClientContainsAnyKeywordPredicate) other).index); // state check
+    }
+}
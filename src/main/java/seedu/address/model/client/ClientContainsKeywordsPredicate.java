@@ -1,70 +1,257 @@
 package seedu.address.model.client;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.mapper.PrefixMapper.getAttributeFunction;
 import static seedu.address.commons.util.StringUtil.containsStringIgnoreCase;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.allPrefixLess;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Optional;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.mapper.PrefixMapper;
 import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.Prefix;
 import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Client}'s attributes matches any of the keywords given.
+ * The keywords are compiled once into lower-cased keywords paired with the attribute they are tested against, so
+ * testing a {@code Client} only compares characters.
+ * An attribute keyword given as a range, as declared in {@link AttributeRange#isRangeExpression(Prefix, String)}, is
+ * tested as an {@code AttributeRange} instead.
  */
-public class ClientContainsKeywordsPredicate implements Predicate<Client> {
+public class ClientContainsKeywordsPredicate implements IndexedClientPredicate {
+    /** The attributes of a {@code Client} that a general keyword is matched against, besides its tags. */
+    static final List<Function<Client, ?>> ATTRIBUTE_FUNCTIONS = Arrays.stream(allPrefixLess(PREFIX_TAG))
+            .<Function<Client, ?>>map(PrefixMapper::getAttributeFunction)
+            .collect(Collectors.toUnmodifiableList());
+
     private final ArgumentMultimap keywords;
+    private final Predicate<Client> tagPredicate;
+    private final Predicate<Client> rangePredicate;
+    private final Predicate<Client> generalPredicate;
+    private final String[] generalKeywords;
+    private final List<Function<Client, ?>> keywordAttributeFunctions;
+    private final String[] attributeKeywords;
+    private final String[] tagKeywords;
+    private final List<AttributeRange> attributeRanges;
 
     public ClientContainsKeywordsPredicate(ArgumentMultimap keywords) {
+        this(keywords, null, null, null);
+    }
+
+    private ClientContainsKeywordsPredicate(ArgumentMultimap keywords, Predicate<Client> tagPredicate,
+            Predicate<Client> rangePredicate, Predicate<Client> generalPredicate) {
         this.keywords = keywords;
+        this.tagPredicate = tagPredicate;
+        this.rangePredicate = rangePredicate;
+        this.generalPredicate = generalPredicate;
+
+        generalKeywords = Arrays.stream(keywords.getPreamble().split(" "))
+                .filter(keyword -> !keyword.isBlank())
+                .map(String::toLowerCase)
+                .toArray(String[]::new);
+
+        List<Function<Client, ?>> functions = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        List<AttributeRange> ranges = new ArrayList<>();
+        for (Prefix prefix : allPrefixLess(PREFIX_TAG)) {
+            keywords.getValue(prefix).ifPresent(keyword -> {
+                if (AttributeRange.isRangeExpression(prefix, keyword)) {
+                    ranges.add(new AttributeRange(prefix, keyword));
+                    return;
+                }
+
+                functions.add(getAttributeFunction(prefix));
+                values.add(keyword.toLowerCase());
+            });
+        }
+        keywordAttributeFunctions = List.copyOf(functions);
+        attributeKeywords = values.toArray(String[]::new);
+        attributeRanges = List.copyOf(ranges);
+
+        tagKeywords = getTagKeywords().stream()
+                .map(String::toLowerCase)
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Returns the lower-cased general keywords given, in the order given.
+     */
+    public List<String> getGeneralKeywords() {
+        return List.of(generalKeywords);
+    }
+
+    /**
+     * Returns the lower-cased attribute keywords given, other than ranges, in the order of their prefixes.
+     */
+    List<String> getAttributeKeywords() {
+        return List.of(attributeKeywords);
+    }
+
+    /**
+     * Returns the attribute functions the attribute keywords are tested against, in the same order.
+     */
+    List<Function<Client, ?>> getKeywordAttributeFunctions() {
+        return keywordAttributeFunctions;
+    }
+
+    /**
+     * Returns the tag keywords given, in the order given.
+     */
+    public List<String> getTagKeywords() {
+        return keywords.getAllValues(PREFIX_TAG);
+    }
+
+    /**
+     * Returns the attribute keywords given as ranges, in the order of their prefixes.
+     */
+    public List<AttributeRange> getAttributeRanges() {
+        return attributeRanges;
+    }
+
+    /**
+     * Returns a copy of this predicate that tests the tags of a {@code Client} with {@code tagPredicate} instead of
+     * the tag keywords given.
+     */
+    public ClientContainsKeywordsPredicate withTagPredicate(Predicate<Client> tagPredicate) {
+        requireNonNull(tagPredicate);
+        return new ClientContainsKeywordsPredicate(keywords, tagPredicate, rangePredicate, generalPredicate);
+    }
+
+    /**
+     * Returns a copy of this predicate that tests the attributes of a {@code Client} with {@code rangePredicate}
+     * instead of the attribute ranges given.
+     */
+    public ClientContainsKeywordsPredicate withRangePredicate(Predicate<Client> rangePredicate) {
+        requireNonNull(rangePredicate);
+        return new ClientContainsKeywordsPredicate(keywords, tagPredicate, rangePredicate, generalPredicate);
+    }
+
+    /**
+     * Returns a copy of this predicate that tests the attributes and tags of a {@code Client} with
+     * {@code generalPredicate} instead of the general keywords given.
+     */
+    public ClientContainsKeywordsPredicate withGeneralPredicate(Predicate<Client> generalPredicate) {
+        requireNonNull(generalPredicate);
+        return new ClientContainsKeywordsPredicate(keywords, tagPredicate, rangePredicate, generalPredicate);
+    }
+
+    /**
+     * Returns a copy of this predicate with every tag, range and general predicate that reads an index resolved.
+     * The copy reads no index, so it can be tested on any thread while the address book is unchanged.
+     *
+     * @see IndexedClientPredicate#resolve()
+     */
+    @Override
+    public ClientContainsKeywordsPredicate resolve() {
+        return new ClientContainsKeywordsPredicate(keywords, resolve(tagPredicate), resolve(rangePredicate),
+                resolve(generalPredicate));
+    }
+
+    private static Predicate<Client> resolve(Predicate<Client> predicate) {
+        return predicate instanceof IndexedClientPredicate ? ((IndexedClientPredicate) predicate).resolve() : predicate;
     }
 
     @Override
     public boolean test(Client client) {
-        String[] generalKeywords = keywords.getPreamble().split(" ");
-        boolean checkGeneral = generalKeywords[0].isBlank() || Arrays.stream(generalKeywords).anyMatch(keyword -> {
-            boolean checkAttributesLessTag = Arrays.stream(allPrefixLess(PREFIX_TAG))
-                    .map(PrefixMapper::getAttributeFunction)
-                    .map(x -> x.apply(client))
-                    .map(Object::toString)
-                    .anyMatch(clientAttribute -> containsStringIgnoreCase(clientAttribute, keyword));
-
-            boolean checkTags = client.getTags().stream()
-                    .map(Tag::getName)
-                    .anyMatch(tagName -> containsStringIgnoreCase(tagName, keyword));
-
-            return checkAttributesLessTag || checkTags;
-        });
-
-        boolean checkAttributes = Arrays.stream(allPrefixLess(PREFIX_TAG))
-                .map(prefix -> {
-                    Function<Client, String> getAttribute = getAttributeFunction(prefix).andThen(Object::toString);
-                    String clientAttribute = getAttribute.apply(client);
-                    Optional<String> keyword = keywords.getValue(prefix);
-                    return keyword.map(x -> containsStringIgnoreCase(clientAttribute, x)).orElse(true);
-                })
-                .reduce(true, Boolean::logicalAnd);
-
-        boolean checkTags = keywords.getValue(PREFIX_TAG)
-                .map(tagKeyword -> client.getTags().stream()
-                        .map(Tag::getName)
-                        .anyMatch(tagName -> containsStringIgnoreCase(tagName, tagKeyword)))
-                .orElse(true);
-
-        return checkGeneral && checkAttributes && checkTags;
+        return checkRanges(client) && checkGeneral(client) && checkAttributes(client) && checkTags(client);
+    }
+
+    private boolean checkRanges(Client client) {
+        if (rangePredicate != null) {
+            return rangePredicate.test(client);
+        }
+
+        for (int i = 0; i < attributeRanges.size(); i++) {
+            if (!attributeRanges.get(i).test(client)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean checkGeneral(Client client) {
+        if (generalPredicate != null) {
+            return generalPredicate.test(client);
+        }
+
+        if (generalKeywords.length == 0) {
+            return true;
+        }
+
+        for (String keyword : generalKeywords) {
+            for (int i = 0; i < ATTRIBUTE_FUNCTIONS.size(); i++) {
+                if (containsStringIgnoreCase(ATTRIBUTE_FUNCTIONS.get(i).apply(client).toString(), keyword)) {
+                    return true;
+                }
+            }
+            if (hasTagContaining(client, keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean checkAttributes(Client client) {
+        for (int i = 0; i < attributeKeywords.length; i++) {
+            String clientAttribute = keywordAttributeFunctions.get(i).apply(client).toString();
+            if (!containsStringIgnoreCase(clientAttribute, attributeKeywords[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean checkTags(Client client) {
+        if (tagPredicate != null) {
+            return tagPredicate.test(client);
+        }
+
+        for (String tagKeyword : tagKeywords) {
+            if (!hasTagContaining(client, tagKeyword)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasTagContaining(Client client, String keyword) {
+        for (Tag tag : client.getTags()) {
+            if (containsStringIgnoreCase(tag.getName(), keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof ClientContainsKeywordsPredicate // instanceof handles nulls
-                && keywords.equals(((ClientContainsKeywordsPredicate) other).keywords)); // state check
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+
+        if (!(other instanceof ClientContainsKeywordsPredicate)) { // instanceof handles nulls
+            return false;
+        }
+
+        ClientContainsKeywordsPredicate otherPredicate = (ClientContainsKeywordsPredicate) other; // state check
+        return keywords.equals(otherPredicate.keywords)
+                && attributeRanges.equals(otherPredicate.attributeRanges)
+                && Objects.equals(tagPredicate, otherPredicate.tagPredicate)
+                && Objects.equals(rangePredicate, otherPredicate.rangePredicate)
+                && Objects.equals(generalPredicate, otherPredicate.generalPredicate);
     }
 
-}
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords, attributeRanges);
+    }
 
+}
@@ -8,7 +8,10 @@ public class ClientId extends NumberComparable<ClientId> {
 
     public static final String VALIDATION_REGEX = "\\d+";
     public static final String MESSAGE_CONSTRAINTS = "ClientId should only contain non-negative integers";
+    private static final int MAX_DIGITS = 18;
+
     public final String value;
+    public final long id;
 
     /**
      * Constructs an {@code ClientId}.
@@ -19,13 +22,31 @@ public class ClientId extends NumberComparable<ClientId> {
         requireNonNull(clientId);
         checkArgument(isValidClientId(clientId), MESSAGE_CONSTRAINTS);
         this.value = removeLeadingZeros(clientId);
+        this.id = Long.parseLong(value);
+    }
+
+    /**
+     * Constructs an {@code ClientId}.
+     *
+     * @param clientId non-negative ClientId
+     */
+    public ClientId(long clientId) {
+        checkArgument(clientId >= 0, MESSAGE_CONSTRAINTS);
+        this.value = String.valueOf(clientId);
+        this.id = clientId;
     }
 
     /**
-     * Returns if a given string is a valid email.
+     * Returns if a given string is a valid client id.
      */
     public static boolean isValidClientId(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return test.matches(VALIDATION_REGEX) && removeLeadingZeros(test).length() <= MAX_DIGITS;
+    }
+
+    @Override
+    public int compareWithDirection(ClientId other, SortDirection sortDirection) {
+        int direction = sortDirection.isAscending() ? 1 : -1;
+        return direction * Long.compare(id, other.id);
     }
 
     @Override
@@ -0,0 +1,41 @@
+package seedu.address.model.client;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Client} is in the result of a query found at a version of the address book.
+ * While the address book is at that version, testing a client is a single set lookup. Once the address book
+ * changes, clients are tested against the query itself.
+ */
+public class ClientInQueryResultPredicate implements Predicate<Client> {
+    private final Set<ClientId> clientIds;
+    private final long version;
+    private final LongSupplier currentVersion;
+    private final Predicate<? super Client> query;
+
+    /**
+     * Creates a predicate testing clients against {@code clientIds}, the result of {@code query} at {@code version}.
+     *
+     * @param currentVersion returns the current version of the address book.
+     */
+    public ClientInQueryResultPredicate(Set<ClientId> clientIds, long version, LongSupplier currentVersion,
+            Predicate<? super Client> query) {
+        requireAllNonNull(clientIds, currentVersion, query);
+        this.clientIds = clientIds;
+        this.version = version;
+        this.currentVersion = currentVersion;
+        this.query = query;
+    }
+
+    @Override
+    public boolean test(Client client) {
+        if (currentVersion.getAsLong() == version) {
+            return clientIds.contains(client.getClientId());
+        }
+        return query.test(client);
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.client;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Tests that a {@code Client}'s attributes are within every one of the {@code AttributeRange}s given.
+ * The clients within the ranges are found once by range scans of a {@code ClientRangeIndex} and found again only
+ * after the index changes, so testing a client is a single set lookup.
+ */
+public class ClientInRangesPredicate implements IndexedClientPredicate {
+    private final List<AttributeRange> ranges;
+    private final ClientRangeIndex index;
+
+    /** Only found and read on the thread that changes the index, other threads test {@link #resolve()}. */
+    private Set<ClientId> matchingClientIds;
+    private long evaluatedVersion;
+
+    /**
+     * Creates a predicate testing clients against every one of {@code ranges} using the keys indexed in
+     * {@code index}.
+     */
+    public ClientInRangesPredicate(List<AttributeRange> ranges, ClientRangeIndex index) {
+        requireAllNonNull(ranges, index);
+        this.ranges = List.copyOf(ranges);
+        this.index = index;
+    }
+
+    @Override
+    public boolean test(Client client) {
+        return ranges.isEmpty() || getMatchingClientIds().contains(client.getClientId());
+    }
+
+    @Override
+    public Predicate<Client> resolve() {
+        if (ranges.isEmpty()) {
+            return client -> true;
+        }
+
+        Set<ClientId> clientIds = Collections.unmodifiableSet(getMatchingClientIds());
+        return client -> clientIds.contains(client.getClientId());
+    }
+
+    private Set<ClientId> getMatchingClientIds() {
+        Set<ClientId> clientIds = matchingClientIds;
+        if (clientIds == null || evaluatedVersion != index.getVersion()) {
+            clientIds = findMatchingClientIds();
+            evaluatedVersion = index.getVersion();
+            matchingClientIds = clientIds;
+        }
+        return clientIds;
+    }
+
+    /**
+     * Returns the ids of the clients within every range, intersecting the smallest set of clients first.
+     */
+    private Set<ClientId> findMatchingClientIds() {
+        List<Set<ClientId>> clientIdsInRanges = ranges.stream()
+                .map(index::getClientIds)
+                .sorted(Comparator.comparingInt(Set::size))
+                .collect(Collectors.toList());
+        Set<ClientId> clientIds = clientIdsInRanges.get(0);
+        for (int i = 1; i < clientIdsInRanges.size() && !clientIds.isEmpty(); i++) {
+            clientIds.retainAll(clientIdsInRanges.get(i));
+        }
+        return clientIds;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ClientInRangesPredicate // instanceof handles nulls
+                && ranges.equals(((ClientInRangesPredicate) other).ranges)
+                && index == ((ClientInRangesPredicate) other).index); // state check
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.client;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.TagClientIndex;
+import seedu.address.model.tag.TagExpression;
+
+/**
+ * Tests that a {@code Client}'s tags satisfy a {@code TagExpression}.
+ * The expression is evaluated once against the tag bitsets of a {@code TagClientIndex} and re-evaluated only after
+ * the index changes, so testing a client is a single bit lookup.
+ */
+public class ClientMatchesTagExpressionPredicate implements IndexedClientPredicate {
+    private final TagExpression tagExpression;
+    private final TagClientIndex index;
+
+    /** Only found and read on the thread that changes the index, other threads test {@link #resolve()}. */
+    private BitSet matchingClients;
+    private long evaluatedVersion;
+
+    /**
+     * Creates a predicate testing clients against {@code tagExpression} using the tags indexed in {@code index}.
+     */
+    public ClientMatchesTagExpressionPredicate(TagExpression tagExpression, TagClientIndex index) {
+        requireAllNonNull(tagExpression, index);
+        this.tagExpression = tagExpression;
+        this.index = index;
+    }
+
+    @Override
+    public boolean test(Client client) {
+        return index.contains(getMatchingClients(), client);
+    }
+
+    @Override
+    public Predicate<Client> resolve() {
+        Set<ClientId> clientIds = Collections.unmodifiableSet(index.getClientIds(getMatchingClients()));
+        return client -> clientIds.contains(client.getClientId());
+    }
+
+    private BitSet getMatchingClients() {
+        BitSet clients = matchingClients;
+        if (clients == null || evaluatedVersion != index.getVersion()) {
+            clients = tagExpression.evaluate(index);
+            evaluatedVersion = index.getVersion();
+            matchingClients = clients;
+        }
+        return clients;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ClientMatchesTagExpressionPredicate // instanceof handles nulls
+                && tagExpression.equals(((ClientMatchesTagExpressionPredicate) other).tagExpression)
+                && index == ((ClientMatchesTagExpressionPredicate) other).index); // state check
+    }
+}
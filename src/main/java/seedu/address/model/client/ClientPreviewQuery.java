@@ -0,0 +1,71 @@
+package seedu.address.model.client;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Finds the clients matching a predicate among a snapshot of clients, so that the clients a command would show can
+ * be found off the JavaFX thread while the command is still being typed.
+ * A predicate reading the indexes of the address book is resolved when the query is created, so the query itself only
+ * reads the snapshot and the clients already found in the indexes. The query stops early once its thread is
+ * interrupted. The result is only valid while the address book is at the version the snapshot was taken at.
+ */
+public class ClientPreviewQuery implements Callable<List<Client>> {
+    /** The number of clients tested between checks for cancellation. */
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+    private final List<Client> clients;
+    private final Predicate<? super Client> predicate;
+    private final long version;
+    private final LongSupplier currentVersion;
+
+    /**
+     * Creates a query finding the clients in {@code clients} matching {@code predicate}, for the address book at
+     * {@code version}. It must be created on the thread that changes the address book.
+     *
+     * @param clients        a snapshot of the clients, which is not changed after.
+     * @param currentVersion returns the current version of the address book.
+     */
+    public ClientPreviewQuery(List<Client> clients, Predicate<? super Client> predicate, long version,
+            LongSupplier currentVersion) {
+        requireAllNonNull(clients, predicate, currentVersion);
+        this.clients = clients;
+        this.predicate = predicate instanceof IndexedClientPredicate
+                ? ((IndexedClientPredicate) predicate).resolve()
+                : predicate;
+        this.version = version;
+        this.currentVersion = currentVersion;
+    }
+
+    /**
+     * Returns the clients matching the predicate, in the order of the snapshot.
+     *
+     * @throws InterruptedException if the thread is interrupted before every client is tested.
+     */
+    @Override
+    public List<Client> call() throws InterruptedException {
+        List<Client> matchingClients = new ArrayList<>();
+        for (int i = 0; i < clients.size(); i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            Client client = clients.get(i);
+            if (predicate.test(client)) {
+                matchingClients.add(client);
+            }
+        }
+        return matchingClients;
+    }
+
+    /**
+     * Returns true if the address book has changed since the snapshot was taken, so the result may be wrong.
+     */
+    public boolean isStale() {
+        return currentVersion.getAsLong() != version;
+    }
+}
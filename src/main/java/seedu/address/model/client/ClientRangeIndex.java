@@ -0,0 +1,94 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.logic.parser.Prefix;
+
+/**
+ * Indexes the clients by the key of every attribute that can be filtered by an {@code AttributeRange}.
+ * The client ids are kept sorted by key, so the clients within a range are found by scanning the keys within the
+ * range without visiting the other clients.
+ */
+public class ClientRangeIndex {
+
+    /** Maps the prefix of every range attribute to the ids of the clients with each key of the attribute. */
+    private final Map<Prefix, NavigableMap<Long, Set<ClientId>>> clientsByKey = new HashMap<>();
+
+    private long version = 0;
+
+    /**
+     * Creates an empty index of every attribute in {@link AttributeRange#RANGE_PREFIXES}.
+     */
+    public ClientRangeIndex() {
+        AttributeRange.RANGE_PREFIXES.forEach(prefix -> clientsByKey.put(prefix, new TreeMap<>()));
+    }
+
+    /**
+     * Adds {@code client} under the key of each of its attributes that is given.
+     */
+    public void add(Client client) {
+        requireNonNull(client);
+        clientsByKey.forEach((prefix, clients) -> {
+            Long key = AttributeRange.getKey(prefix, client);
+            if (key != null) {
+                clients.computeIfAbsent(key, unused -> new HashSet<>()).add(client.getClientId());
+            }
+        });
+        version++;
+    }
+
+    /**
+     * Removes {@code client} from under the key of each of its attributes that is given.
+     */
+    public void remove(Client client) {
+        requireNonNull(client);
+        clientsByKey.forEach((prefix, clients) -> {
+            Long key = AttributeRange.getKey(prefix, client);
+            if (key == null) {
+                return;
+            }
+
+            Set<ClientId> clientIds = clients.get(key);
+            if (clientIds == null) {
+                return;
+            }
+
+            clientIds.remove(client.getClientId());
+            if (clientIds.isEmpty()) {
+                clients.remove(key);
+            }
+        });
+        version++;
+    }
+
+    /**
+     * Returns the ids of the clients whose attribute is within {@code range}.
+     */
+    public Set<ClientId> getClientIds(AttributeRange range) {
+        requireNonNull(range);
+        Set<ClientId> clientIds = new HashSet<>();
+        if (range.isEmpty()) {
+            return clientIds;
+        }
+
+        clientsByKey.get(range.getPrefix())
+                .subMap(range.getMin(), true, range.getMax(), true)
+                .values()
+                .forEach(clientIds::addAll);
+        return clientIds;
+    }
+
+    /**
+     * Returns a number that changes whenever a client is added to or removed from the index.
+     */
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes the text of every client by its trigrams, the substrings of three characters.
+ * The text of a client is the lower-cased text of each attribute and tag that a general keyword is matched against.
+ * A keyword of at least three characters can only be contained in the text of the clients having every one of its
+ * trigrams, so only those clients are checked for the keyword instead of every client.
+ */
+public class ClientTrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    /** Maps the id of every indexed client to the lower-cased text of its attributes and tags. */
+    private final Map<ClientId, String[]> textsByClientId = new HashMap<>();
+    /** Maps every trigram in the text of an indexed client to the ids of the clients with that trigram. */
+    private final Map<String, Set<ClientId>> clientIdsByTrigram = new HashMap<>();
+
+    private long version = 0;
+
+    /**
+     * Adds the text of {@code client} to the index.
+     */
+    public void add(Client client) {
+        requireNonNull(client);
+        if (textsByClientId.containsKey(client.getClientId())) {
+            remove(client);
+        }
+
+        String[] texts = getTexts(client);
+        textsByClientId.put(client.getClientId(), texts);
+        for (String trigram : getTrigrams(texts)) {
+            clientIdsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(client.getClientId());
+        }
+        version++;
+    }
+
+    /**
+     * Removes the text of the client with the client id of {@code client} from the index.
+     */
+    public void remove(Client client) {
+        requireNonNull(client);
+        String[] texts = textsByClientId.remove(client.getClientId());
+        if (texts == null) {
+            return;
+        }
+
+        for (String trigram : getTrigrams(texts)) {
+            Set<ClientId> clientIds = clientIdsByTrigram.get(trigram);
+            if (clientIds == null) {
+                continue;
+            }
+
+            clientIds.remove(client.getClientId());
+            if (clientIds.isEmpty()) {
+                clientIdsByTrigram.remove(trigram);
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Returns the ids of the clients with an attribute or tag containing {@code keyword}, ignoring case.
+     * Only the clients having every trigram of {@code keyword} are checked, or every client if {@code keyword} is
+     * shorter than a trigram.
+     */
+    public Set<ClientId> getClientIdsContaining(String keyword) {
+        requireNonNull(keyword);
+        String lowerCaseKeyword = keyword.toLowerCase();
+        Set<ClientId> clientIds = new HashSet<>();
+        for (ClientId clientId : getCandidates(lowerCaseKeyword)) {
+            if (containsKeyword(textsByClientId.get(clientId), lowerCaseKeyword)) {
+                clientIds.add(clientId);
+            }
+        }
+        return clientIds;
+    }
+
+    /**
+     * Returns a number that changes whenever a client is added to or removed from the index.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the ids of the clients that may contain {@code lowerCaseKeyword}, found by intersecting the clients of
+     * each of its trigrams, starting from the trigram with the fewest clients.
+     */
+    private Set<ClientId> getCandidates(String lowerCaseKeyword) {
+        if (lowerCaseKeyword.length() < GRAM_LENGTH) {
+            return textsByClientId.keySet();
+        }
+
+        List<Set<ClientId>> postings = new ArrayList<>();
+        for (String trigram : getTrigrams(lowerCaseKeyword)) {
+            Set<ClientId> clientIds = clientIdsByTrigram.get(trigram);
+            if (clientIds == null) {
+                return Set.of();
+            }
+            postings.add(clientIds);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        Set<ClientId> candidates = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postings.get(i));
+        }
+        return candidates;
+    }
+
+    private static boolean containsKeyword(String[] texts, String lowerCaseKeyword) {
+        for (String text : texts) {
+            if (text.contains(lowerCaseKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the lower-cased text of every attribute and tag of {@code client} that a general keyword is matched
+     * against.
+     */
+    private static String[] getTexts(Client client) {
+        List<String> texts = new ArrayList<>();
+        ClientContainsKeywordsPredicate.ATTRIBUTE_FUNCTIONS.forEach(function ->
+                texts.add(function.apply(client).toString().toLowerCase()));
+        for (Tag tag : client.getTags()) {
+            texts.add(tag.getName().toLowerCase());
+        }
+        return texts.toArray(String[]::new);
+    }
+
+    private static Set<String> getTrigrams(String... texts) {
+        Set<String> trigrams = new HashSet<>();
+        for (String text : texts) {
+            for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+                trigrams.add(text.substring(i, i + GRAM_LENGTH));
+            }
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.ALL_PREFIXES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.allPrefixLess;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.mapper.PrefixMapper;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes the distinct lower-cased words of every attribute and tag of the clients, so that the words within an edit
+ * distance of a keyword are found without checking every client.
+ * The words of an attribute are further indexed by their bigrams, the substrings of two characters of the word padded
+ * with a space at both ends. A word within {@code d} edits of a keyword of {@code n} characters shares at least
+ * {@code n + 1 - 2d} of its bigrams, so only the words sharing enough bigrams are compared with the keyword.
+ */
+public class ClientWordIndex {
+
+    /** Splits the text of an attribute into its words. */
+    public static final String WORD_DELIMITER = "[^\\p{Alnum}]+";
+
+    /** Prefixes of every attribute the words are indexed under, with the tag prefix for the words of tags. */
+    public static final List<Prefix> INDEXED_PREFIXES = List.of(ALL_PREFIXES);
+
+    private static final int GRAM_LENGTH = 2;
+
+    /** Maps the id of every indexed client to the words of each of its attributes, with tags under the tag prefix. */
+    private final Map<ClientId, Map<Prefix, Set<String>>> wordsByClientId = new HashMap<>();
+    /** Maps the prefix of every attribute, and the tag prefix, to the words of that attribute of indexed clients. */
+    private final Map<Prefix, AttributeWords> wordsByPrefix = new HashMap<>();
+
+    /**
+     * Adds the words of {@code client} to the index.
+     */
+    public void add(Client client) {
+        requireNonNull(client);
+        if (wordsByClientId.containsKey(client.getClientId())) {
+            remove(client);
+        }
+
+        Map<Prefix, Set<String>> words = getWords(client);
+        wordsByClientId.put(client.getClientId(), words);
+        words.forEach((prefix, attributeWords) -> attributeWords.forEach(word ->
+                wordsByPrefix.computeIfAbsent(prefix, unused -> new AttributeWords()).add(word, client.getClientId())));
+    }
+
+    /**
+     * Removes the words of the client with the client id of {@code client} from the index.
+     */
+    public void remove(Client client) {
+        requireNonNull(client);
+        Map<Prefix, Set<String>> words = wordsByClientId.remove(client.getClientId());
+        if (words == null) {
+            return;
+        }
+
+        words.forEach((prefix, attributeWords) -> attributeWords.forEach(word ->
+                wordsByPrefix.get(prefix).remove(word, client.getClientId())));
+    }
+
+    /**
+     * Returns the ids of the clients with a word within {@code maxDistance} edits of {@code keyword}, ignoring case,
+     * in any of the attributes with {@code prefixes}, each mapped to the fewest edits of its closest word.
+     */
+    public Map<ClientId, Integer> getClientDistances(List<Prefix> prefixes, String keyword, int maxDistance) {
+        requireAllNonNull(prefixes, keyword);
+        String lowerCaseKeyword = keyword.toLowerCase();
+        Map<ClientId, Integer> distances = new HashMap<>();
+        for (Prefix prefix : prefixes) {
+            AttributeWords attributeWords = wordsByPrefix.get(prefix);
+            if (attributeWords == null) {
+                continue;
+            }
+
+            for (String word : attributeWords.getCandidates(lowerCaseKeyword, maxDistance)) {
+                int distance = StringUtil.getEditDistance(lowerCaseKeyword, word, maxDistance);
+                if (distance > maxDistance) {
+                    continue;
+                }
+                for (ClientId clientId : attributeWords.clientIdsByWord.get(word)) {
+                    distances.merge(clientId, distance, Math::min);
+                }
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * Returns the lower-cased words of every attribute and tag of {@code client}, with tags under the tag prefix.
+     */
+    private static Map<Prefix, Set<String>> getWords(Client client) {
+        Map<Prefix, Set<String>> words = new HashMap<>();
+        for (Prefix prefix : allPrefixLess(PREFIX_TAG)) {
+            addWords(words, prefix, PrefixMapper.getAttributeFunction(prefix).apply(client).toString());
+        }
+        for (Tag tag : client.getTags()) {
+            addWords(words, PREFIX_TAG, tag.getName());
+        }
+        return words;
+    }
+
+    private static void addWords(Map<Prefix, Set<String>> words, Prefix prefix, String text) {
+        for (String word : text.toLowerCase().split(WORD_DELIMITER)) {
+            if (!word.isEmpty()) {
+                words.computeIfAbsent(prefix, unused -> new HashSet<>()).add(word);
+            }
+        }
+    }
+
+    private static Set<String> getBigrams(String word) {
+        String paddedWord = " " + word + " ";
+        Set<String> bigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= paddedWord.length(); i++) {
+            bigrams.add(paddedWord.substring(i, i + GRAM_LENGTH));
+        }
+        return bigrams;
+    }
+
+    /**
+     * The distinct words of one attribute of the indexed clients.
+     */
+    private static class AttributeWords {
+        private final Map<String, Set<ClientId>> clientIdsByWord = new HashMap<>();
+        private final Map<String, Set<String>> wordsByBigram = new HashMap<>();
+
+        private void add(String word, ClientId clientId) {
+            Set<ClientId> clientIds = clientIdsByWord.computeIfAbsent(word, unused -> new HashSet<>());
+            if (clientIds.isEmpty()) {
+                getBigrams(word).forEach(bigram ->
+                        wordsByBigram.computeIfAbsent(bigram, unused -> new HashSet<>()).add(word));
+            }
+            clientIds.add(clientId);
+        }
+
+        private void remove(String word, ClientId clientId) {
+            Set<ClientId> clientIds = clientIdsByWord.get(word);
+            clientIds.remove(clientId);
+            if (!clientIds.isEmpty()) {
+                return;
+            }
+
+            clientIdsByWord.remove(word);
+            for (String bigram : getBigrams(word)) {
+                Set<String> words = wordsByBigram.get(bigram);
+                words.remove(word);
+                if (words.isEmpty()) {
+                    wordsByBigram.remove(bigram);
+                }
+            }
+        }
+
+        /**
+         * Returns the words that may be within {@code maxDistance} edits of {@code keyword}, being the words sharing
+         * enough bigrams with it, or every word if the keyword is too short to require any shared bigram.
+         */
+        private Set<String> getCandidates(String keyword, int maxDistance) {
+            Set<String> keywordBigrams = getBigrams(keyword);
+            int minSharedBigrams = keyword.length() + 1 - GRAM_LENGTH * maxDistance;
+            if (minSharedBigrams <= 0 || keywordBigrams.size() < keyword.length() + 1) {
+                // a bigram repeated in the keyword makes the bound on distinct bigrams shared unreliable
+                return clientIdsByWord.keySet();
+            }
+
+            Map<String, Integer> sharedBigrams = new HashMap<>();
+            for (String bigram : keywordBigrams) {
+                for (String word : wordsByBigram.getOrDefault(bigram, Set.of())) {
+                    sharedBigrams.merge(word, 1, Integer::sum);
+                }
+            }
+
+            Set<String> candidates = new HashSet<>();
+            sharedBigrams.forEach((word, count) -> {
+                if (count >= minSharedBigrams) {
+                    candidates.add(word);
+                }
+            });
+            return candidates;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.StringUtil.isWithinLengthLimit;
 
+import seedu.address.commons.core.Interner;
+
 public class CurrentPlan extends StringComparable<CurrentPlan> implements OptionalStringBasedField, LongerFieldLength {
 
     public static final String MESSAGE_CONSTRAINTS = "Current plan can take any values, and it can be blank"
@@ -15,6 +17,8 @@ public class CurrentPlan extends StringComparable<CurrentPlan> implements Option
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Interner<CurrentPlan> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -31,6 +35,15 @@ public class CurrentPlan extends StringComparable<CurrentPlan> implements Option
         value = currentPlan;
     }
 
+    /**
+     * Returns a {@code CurrentPlan} shared by every client with the given current plan.
+     *
+     * @param currentPlan valid current plan.
+     */
+    public static CurrentPlan of(String currentPlan) {
+        return INTERNER.intern(new CurrentPlan(currentPlan));
+    }
+
     /**
      * Returns true if a given string is a valid current plan.
      */
@@ -6,6 +6,10 @@ import static seedu.address.commons.util.StringUtil.getCurrencyFormat;
 import static seedu.address.commons.util.StringUtil.isValidCurrencyValue;
 import static seedu.address.commons.util.StringUtil.isWithinLengthLimit;
 
+import java.math.BigDecimal;
+
+import seedu.address.commons.core.Interner;
+
 public class DisposableIncome extends NumberComparable<DisposableIncome>
     implements OptionalStringBasedField, ShorterFieldLength {
 
@@ -13,8 +17,11 @@ public class DisposableIncome extends NumberComparable<DisposableIncome>
             "Disposable Income numbers should be a non-negative number only. (Character limit: 15)";
     public static final String DEFAULT_VALUE = "0.00";
 
+    private static final Interner<DisposableIncome> INTERNER = new Interner<>();
+
     public final String value;
     public final String valueWithSymbol;
+    public final long valueInCents;
 
     /**
      * Constructs a {@code Risk Appetite}.
@@ -29,7 +36,17 @@ public class DisposableIncome extends NumberComparable<DisposableIncome>
         }
         valueWithSymbol = getCurrencyFormat(disposableIncome, true);
         value = getCurrencyFormat(disposableIncome, false);
+        valueInCents = new BigDecimal(value).movePointRight(2).longValueExact();
+    }
 
+    /**
+     * Returns a {@code DisposableIncome} for the given income, reusing the instance of any client with
+     * the same income.
+     *
+     * @param disposableIncome A valid disposable income.
+     */
+    public static DisposableIncome of(String disposableIncome) {
+        return INTERNER.intern(new DisposableIncome(disposableIncome));
     }
 
     /**
@@ -40,6 +57,11 @@ public class DisposableIncome extends NumberComparable<DisposableIncome>
             || (isValidCurrencyValue(test) && isWithinLengthLimit(test, MAX_LENGTH));
     }
 
+    @Override
+    protected double getComparableValue() {
+        return valueInCents;
+    }
+
     @Override
     public int hashCode() {
         return value.hashCode();
@@ -0,0 +1,207 @@
+package seedu.address.model.client;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.parser.Prefix;
+
+/**
+ * Represents keywords matched against the words of a client allowing a few typing mistakes, with clients ranked by
+ * the number of edits needed to match them.
+ * A general keyword matches a client with a close word in any attribute or tag, and the client is scored by its
+ * closest general keyword. An attribute keyword must match a close word in that attribute, and adds its edits to the
+ * score, as does every other keyword given for the same attribute. A keyword of several words must match every one
+ * of its words, adding up their edits.
+ * Guarantees: immutable
+ */
+public class FuzzyQuery {
+
+    /** Orders matches from the fewest edits, then by client id. */
+    private static final Comparator<Match> MATCH_ORDER = Comparator.<Match>comparingInt(match -> match.score)
+            .thenComparing(match -> match.client.getClientId());
+
+    private final List<String> generalKeywords;
+    private final Map<Prefix, List<String>> attributeKeywords;
+
+    /**
+     * Constructs a {@code FuzzyQuery}.
+     *
+     * @param generalKeywords   keywords matched against every attribute and tag.
+     * @param attributeKeywords keywords matched against the attribute with their prefix, every one of which must match.
+     */
+    public FuzzyQuery(List<String> generalKeywords, Map<Prefix, List<String>> attributeKeywords) {
+        requireAllNonNull(generalKeywords, attributeKeywords);
+        checkArgument(generalKeywords.stream().allMatch(FuzzyQuery::hasWords)
+                && attributeKeywords.values().stream().flatMap(List::stream).allMatch(FuzzyQuery::hasWords),
+                "Fuzzy keywords should contain a letter or digit");
+        this.generalKeywords = toLowerCase(generalKeywords);
+        Map<Prefix, List<String>> keywords = new LinkedHashMap<>();
+        attributeKeywords.forEach((prefix, prefixKeywords) -> {
+            if (!prefixKeywords.isEmpty()) {
+                keywords.put(prefix, toLowerCase(prefixKeywords));
+            }
+        });
+        this.attributeKeywords = keywords;
+    }
+
+    /**
+     * Returns the number of edits allowed for a word of {@code wordLength} characters to match: none for words of
+     * up to 2 characters, 1 for words of up to 5 characters and 2 for longer words.
+     */
+    public static int getMaxDistance(int wordLength) {
+        if (wordLength <= 2) {
+            return 0;
+        }
+        return wordLength <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns true if no keyword is given.
+     */
+    public boolean isEmpty() {
+        return generalKeywords.isEmpty() && attributeKeywords.isEmpty();
+    }
+
+    /**
+     * Returns up to {@code limit} clients matching the keywords and {@code predicate}, ranked from the fewest edits.
+     * Only the clients with a close word in {@code index} are scored, and the best of them are kept in a heap of at
+     * most {@code limit} clients, so only the clients returned are ever sorted.
+     *
+     * @param clients returns the client with the given id, for every client in {@code index}.
+     */
+    public List<Client> getTopMatches(ClientWordIndex index, Function<ClientId, Client> clients,
+            Predicate<Client> predicate, int limit) {
+        requireAllNonNull(index, clients, predicate);
+        checkArgument(limit > 0, "Limit should be positive");
+        if (isEmpty()) {
+            return List.of();
+        }
+
+        Map<ClientId, Integer> scores = null;
+        if (!generalKeywords.isEmpty()) {
+            Map<ClientId, Integer> generalScores = new HashMap<>();
+            for (String keyword : generalKeywords) {
+                getKeywordDistances(index, ClientWordIndex.INDEXED_PREFIXES, keyword)
+                        .forEach((clientId, distance) -> generalScores.merge(clientId, distance, Math::min));
+            }
+            scores = generalScores;
+        }
+        for (Map.Entry<Prefix, List<String>> entry : attributeKeywords.entrySet()) {
+            for (String keyword : entry.getValue()) {
+                Map<ClientId, Integer> distances = getKeywordDistances(index, List.of(entry.getKey()), keyword);
+                scores = scores == null ? distances : addDistances(scores, distances);
+            }
+        }
+
+        // the worst match kept is at the head of the heap, to be dropped when a better match is found
+        PriorityQueue<Match> bestMatches = new PriorityQueue<>(limit + 1, MATCH_ORDER.reversed());
+        scores.forEach((clientId, score) -> {
+            Client client = clients.apply(clientId);
+            if (!predicate.test(client)) {
+                return;
+            }
+
+            bestMatches.add(new Match(client, score));
+            if (bestMatches.size() > limit) {
+                bestMatches.poll();
+            }
+        });
+
+        List<Match> rankedMatches = new ArrayList<>(bestMatches);
+        rankedMatches.sort(MATCH_ORDER);
+        return rankedMatches.stream()
+                .map(match -> match.client)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the clients with a close word in an attribute with {@code prefixes} for every word of {@code keyword},
+     * each mapped to the total edits of its closest words.
+     */
+    private static Map<ClientId, Integer> getKeywordDistances(ClientWordIndex index, List<Prefix> prefixes,
+            String keyword) {
+        Map<ClientId, Integer> distances = null;
+        for (String word : getWords(keyword)) {
+            Map<ClientId, Integer> wordDistances =
+                    index.getClientDistances(prefixes, word, getMaxDistance(word.length()));
+            distances = distances == null ? wordDistances : addDistances(distances, wordDistances);
+        }
+        return distances;
+    }
+
+    /**
+     * Returns the clients in both {@code first} and {@code second}, each mapped to the sum of its distances.
+     */
+    private static Map<ClientId, Integer> addDistances(Map<ClientId, Integer> first, Map<ClientId, Integer> second) {
+        Map<ClientId, Integer> smaller = first.size() <= second.size() ? first : second;
+        Map<ClientId, Integer> larger = smaller == first ? second : first;
+        Map<ClientId, Integer> sums = new HashMap<>();
+        smaller.forEach((clientId, distance) -> {
+            Integer otherDistance = larger.get(clientId);
+            if (otherDistance != null) {
+                sums.put(clientId, distance + otherDistance);
+            }
+        });
+        return sums;
+    }
+
+    private static List<String> getWords(String keyword) {
+        return Arrays.stream(keyword.split(ClientWordIndex.WORD_DELIMITER))
+                .filter(word -> !word.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> toLowerCase(List<String> keywords) {
+        return keywords.stream()
+                .map(String::toLowerCase)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private static boolean hasWords(String keyword) {
+        return !getWords(keyword).isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FuzzyQuery // instanceof handles nulls
+                && generalKeywords.equals(((FuzzyQuery) other).generalKeywords)
+                && attributeKeywords.equals(((FuzzyQuery) other).attributeKeywords)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(generalKeywords, attributeKeywords);
+    }
+
+    @Override
+    public String toString() {
+        return generalKeywords + " " + attributeKeywords;
+    }
+
+    /**
+     * A client paired with the edits needed to match it.
+     */
+    private static class Match {
+        private final Client client;
+        private final int score;
+
+        private Match(Client client, int score) {
+            this.client = client;
+            this.score = score;
+        }
+    }
+}
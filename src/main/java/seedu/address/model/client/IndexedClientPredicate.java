@@ -0,0 +1,18 @@
+package seedu.address.model.client;
+
+import java.util.function.Predicate;
+
+/**
+ * Tests a {@code Client} by reading an index of the address book, which may only be read on the thread that changes
+ * the address book.
+ */
+public interface IndexedClientPredicate extends Predicate<Client> {
+
+    /**
+     * Returns a predicate testing clients the same way while the address book is unchanged, which never reads the
+     * index, so that it can be tested on any thread.
+     * The clients matching are found in the index by this call, which must be made on the thread that changes the
+     * address book.
+     */
+    Predicate<Client> resolve();
+}
@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
+import seedu.address.commons.core.Interner;
 import seedu.address.commons.util.StringUtil;
 
 public class LastMet implements OptionalNonStringBasedField, IgnoreNullComparable<LastMet> {
@@ -13,6 +14,8 @@ public class LastMet implements OptionalNonStringBasedField, IgnoreNullComparabl
             + "where Day, Month and Year should be valid numerical values.";
     public static final String MESSAGE_FUTURE_DATE = "LastMet should not be a future date.";
 
+    private static final Interner<LastMet> INTERNER = new Interner<>();
+
     public final LocalDate value;
     public final String dateInString;
 
@@ -41,6 +44,15 @@ public class LastMet implements OptionalNonStringBasedField, IgnoreNullComparabl
         }
     }
 
+    /**
+     * Returns a {@code LastMet} shared by every client last met on the given date.
+     *
+     * @param lastMetDate date agent last meets a client
+     */
+    public static LastMet of(String lastMetDate) {
+        return INTERNER.intern(new LastMet(lastMetDate));
+    }
+
     /**
      * Returns true if last met does not hold any dates.
      */
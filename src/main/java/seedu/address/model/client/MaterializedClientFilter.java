@@ -0,0 +1,59 @@
+package seedu.address.model.client;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Client} matches a filter applied on top of the clients currently shown, with the clients
+ * matching kept at the version of the address book the filter is applied at.
+ * Only the clients currently shown are tested against the new filter, so stacking filters costs the number of clients
+ * shown rather than the whole chain of filters over every client. While the address book is at that version, testing
+ * a client is a single lookup of the clients kept. Once the address book changes, a client not kept, such as one added
+ * or edited since, is tested against the whole chain instead.
+ */
+public class MaterializedClientFilter implements Predicate<Client> {
+    /** The new filter and every filter applied before it. */
+    private final Predicate<Client> chain;
+    /** The clients shown at the time the filter is applied that match it, by identity. */
+    private final Set<Client> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final long version;
+    private final LongSupplier currentVersion;
+
+    /**
+     * Creates a filter of the clients in {@code shownClients} by {@code predicate}.
+     *
+     * @param currentPredicate the predicate {@code shownClients} were filtered by.
+     * @param shownClients     the clients matching {@code currentPredicate} in the address book at {@code version}.
+     * @param currentVersion   returns the current version of the address book.
+     */
+    public MaterializedClientFilter(Predicate<Client> predicate, Predicate<? super Client> currentPredicate,
+            List<Client> shownClients, long version, LongSupplier currentVersion) {
+        requireAllNonNull(predicate, currentPredicate, shownClients, currentVersion);
+        Predicate<? super Client> previousChain = currentPredicate instanceof MaterializedClientFilter
+                ? ((MaterializedClientFilter) currentPredicate).chain
+                : currentPredicate;
+        chain = predicate.and(previousChain);
+        this.version = version;
+        this.currentVersion = currentVersion;
+
+        for (Client client : shownClients) {
+            if (predicate.test(client)) {
+                matches.add(client);
+            }
+        }
+    }
+
+    @Override
+    public boolean test(Client client) {
+        if (matches.contains(client)) {
+            return true;
+        }
+        return currentVersion.getAsLong() != version && chain.test(client);
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLIENTID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NEXTMEETING;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Indexes the clients that have a planned meeting by the date of the meeting.
+ * The clients with meetings on the same date are kept in the order of their meetings, then of their client ids, so
+ * the meetings within a range of dates can be retrieved in order without scanning every client.
+ */
+public class MeetingCalendar {
+
+    private static final Comparator<Client> MEETING_ORDER = new SortByAttribute(PREFIX_NEXTMEETING)
+        .thenCompareByAttribute(PREFIX_CLIENTID);
+
+    private final NavigableMap<LocalDate, NavigableSet<Client>> meetingsByDate = new TreeMap<>();
+
+    /**
+     * Adds the meeting of {@code client} to the calendar if a meeting is planned.
+     */
+    public void add(Client client) {
+        requireNonNull(client);
+        LocalDate date = client.getNextMeetingDate();
+        if (date == null) {
+            return;
+        }
+
+        meetingsByDate.computeIfAbsent(date, unused -> new TreeSet<>(MEETING_ORDER)).add(client);
+    }
+
+    /**
+     * Removes the meeting of {@code client} from the calendar if a meeting is planned.
+     */
+    public void remove(Client client) {
+        requireNonNull(client);
+        LocalDate date = client.getNextMeetingDate();
+        if (date == null) {
+            return;
+        }
+
+        NavigableSet<Client> meetings = meetingsByDate.get(date);
+        if (meetings == null) {
+            return;
+        }
+
+        meetings.remove(client);
+        if (meetings.isEmpty()) {
+            meetingsByDate.remove(date);
+        }
+    }
+
+    /**
+     * Removes every meeting from the calendar.
+     */
+    public void clear() {
+        meetingsByDate.clear();
+    }
+
+    /**
+     * Returns the clients with meetings from {@code startDate} to {@code endDate} inclusive, in the order of their
+     * meetings.
+     */
+    public List<Client> getMeetings(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        List<Client> meetings = new ArrayList<>();
+        if (startDate.isAfter(endDate)) {
+            return meetings;
+        }
+
+        meetingsByDate.subMap(startDate, true, endDate, true).values().forEach(meetings::addAll);
+        return meetings;
+    }
+}
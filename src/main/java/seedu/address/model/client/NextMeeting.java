@@ -11,6 +11,7 @@ import static seedu.address.commons.util.StringUtil.parseToLocalDate;
 import static seedu.address.commons.util.StringUtil.parseToLocalTime;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 public class NextMeeting implements OptionalNonStringBasedField, IgnoreNullComparable<NextMeeting>, LongerFieldLength {
@@ -42,6 +43,7 @@ public class NextMeeting implements OptionalNonStringBasedField, IgnoreNullCompa
     public final String startTimeInString;
     public final String endTimeInString;
     public final String location;
+    private final String meetingString;
     private Name withWho;
 
     /**
@@ -77,6 +79,10 @@ public class NextMeeting implements OptionalNonStringBasedField, IgnoreNullCompa
         this.date = parseToLocalDate(date);
         this.startTime = parseToLocalTime(startTime);
         this.endTime = parseToLocalTime(endTime);
+
+        meetingString = this.date == null
+                ? NO_NEXT_MEETING
+                : String.format("%s (%s~%s), %s", dateInString, startTimeInString, endTimeInString, this.location);
     }
 
     /**
@@ -145,8 +151,21 @@ public class NextMeeting implements OptionalNonStringBasedField, IgnoreNullCompa
         return date;
     }
 
-    public boolean isSameDay(LocalDate comparison) {
-        return comparison.equals(this.date);
+    /**
+     * Returns true if this {@code NextMeeting} is planned from {@code startDate} to {@code endDate} inclusive.
+     */
+    public boolean isBetween(LocalDate startDate, LocalDate endDate) {
+        return date != null && !date.isBefore(startDate) && !date.isAfter(endDate);
+    }
+
+    /**
+     * Returns the date and time at which this {@code NextMeeting} ends, or null if no meeting is planned.
+     */
+    public LocalDateTime getEndDateTime() {
+        if (date == null || endTime == null) {
+            return null;
+        }
+        return LocalDateTime.of(date, endTime);
     }
 
     /**
@@ -165,7 +184,7 @@ public class NextMeeting implements OptionalNonStringBasedField, IgnoreNullCompa
      */
     public LastMet convertToLastMet() {
         requireNonNull(date);
-        return new LastMet(dateInString);
+        return LastMet.of(dateInString);
     }
 
     /**
@@ -190,11 +209,7 @@ public class NextMeeting implements OptionalNonStringBasedField, IgnoreNullCompa
 
     @Override
     public String toString() {
-        if (date == null) {
-            return NO_NEXT_MEETING;
-        }
-        return String.format("%s (%s~%s), %s", dateInString, startTimeInString, endTimeInString, location);
-
+        return meetingString;
     }
 
     @Override
@@ -4,29 +4,38 @@ package seedu.address.model.client;
  * An abstract class to allow the class extending it to be comparable
  * by the parsed number of the string representation.
  */
-public abstract class NumberComparable<T> implements IgnoreNullComparable<T> {
+public abstract class NumberComparable<T extends NumberComparable<T>> implements IgnoreNullComparable<T> {
+
     @Override
     public int compareWithDirection(T other, SortDirection sortDirection) {
-        double a;
-        double b;
+        return compareValues(getComparableValue(), other.getComparableValue(), sortDirection);
+    }
 
-        if (this.toString().isEmpty() && other.toString().isEmpty()) {
-            return 0;
+    /**
+     * Compares the numbers {@code a} and {@code b} in {@code sortDirection}, where {@code NaN}, standing for no
+     * number, is positioned last.
+     */
+    static int compareValues(double a, double b, SortDirection sortDirection) {
+        boolean isANumber = !Double.isNaN(a);
+        boolean isBNumber = !Double.isNaN(b);
+        if (!isANumber || !isBNumber) {
+            return Boolean.compare(isBNumber, isANumber);
         }
 
-        try {
-            b = Double.parseDouble(other.toString());
-        } catch (NumberFormatException | NullPointerException e) {
-            return -1;
-        }
+        int direction = sortDirection.isAscending() ? 1 : -1;
+        return direction * Double.compare(a, b);
+    }
 
+    /**
+     * Returns the number compared by, or {@code NaN} if there is none.
+     * By default this is parsed from the string representation on every call. Classes that keep their number, such
+     * as those compared often, return it instead.
+     */
+    protected double getComparableValue() {
         try {
-            a = Double.parseDouble(this.toString());
+            return Double.parseDouble(toString());
         } catch (NumberFormatException | NullPointerException e) {
-            return 1;
+            return Double.NaN;
         }
-
-        int direction = sortDirection.isAscending() ? 1 : -1;
-        return direction * Double.compare(a, b);
     }
 }
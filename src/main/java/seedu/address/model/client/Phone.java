@@ -17,6 +17,7 @@ public class Phone extends NumberComparable<Phone> implements OptionalStringBase
     public static final String VALIDATION_REGEX = "\\d{3,}";
 
     public final String value;
+    private final double comparableValue;
 
     /**
      * Constructs a {@code Phone}.
@@ -30,6 +31,7 @@ public class Phone extends NumberComparable<Phone> implements OptionalStringBase
             phone = DEFAULT_VALUE;
         }
         value = phone;
+        comparableValue = phone.isEmpty() ? Double.NaN : Double.parseDouble(phone);
     }
 
     /**
@@ -40,6 +42,11 @@ public class Phone extends NumberComparable<Phone> implements OptionalStringBase
             || (test.matches(VALIDATION_REGEX) && isWithinLengthLimit(test, MAX_LENGTH));
     }
 
+    @Override
+    protected double getComparableValue() {
+        return comparableValue;
+    }
+
     @Override
     public int hashCode() {
         return value.hashCode();
@@ -3,12 +3,18 @@ package seedu.address.model.client;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.core.Interner;
+
 public class RiskAppetite extends NumberComparable<RiskAppetite> implements OptionalStringBasedField {
 
     public static final String MESSAGE_CONSTRAINTS =
         "Risk Appetite number should be a single digit integer between 1 and 5";
     public static final String VALIDATION_REGEX = "^([1-5])";
+
+    private static final Interner<RiskAppetite> INTERNER = new Interner<>();
+
     public final String value;
+    public final int level;
 
     /**
      * Constructs a {@code Risk Appetite}.
@@ -22,6 +28,16 @@ public class RiskAppetite extends NumberComparable<RiskAppetite> implements Opti
             riskAppetite = DEFAULT_VALUE;
         }
         value = riskAppetite;
+        level = riskAppetite.isEmpty() ? 0 : Integer.parseInt(riskAppetite);
+    }
+
+    /**
+     * Returns the shared {@code RiskAppetite} for the given risk appetite number.
+     *
+     * @param riskAppetite A valid risk appetite number.
+     */
+    public static RiskAppetite of(String riskAppetite) {
+        return INTERNER.intern(new RiskAppetite(riskAppetite));
     }
 
     /**
@@ -38,6 +54,11 @@ public class RiskAppetite extends NumberComparable<RiskAppetite> implements Opti
         return value;
     }
 
+    @Override
+    protected double getComparableValue() {
+        return value.isEmpty() ? Double.NaN : level;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,13 +1,19 @@
 package seedu.address.model.client;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.mapper.PrefixMapper.compareFunction;
+import static seedu.address.commons.mapper.PrefixMapper.getAttributeFunction;
 import static seedu.address.commons.mapper.PrefixMapper.getName;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.Prefix;
@@ -20,6 +26,8 @@ public class SortByAttribute implements Comparator<Client> {
 
     private final List<Prefix> prefixList;
     private final List<SortDirection> sortDirectionList;
+    private final List<BiFunction<Client, Client, Integer>> compareFunctions;
+    private final List<Function<Client, ? extends IgnoreNullComparable<?>>> attributeFunctions;
 
     /**
      * Returns a SortByAttribute object based on the list of {@code Prefix} and {@code SortDirection}
@@ -27,6 +35,18 @@ public class SortByAttribute implements Comparator<Client> {
     public SortByAttribute(List<Prefix> prefixList, List<SortDirection> sortDirectionList) {
         this.prefixList = prefixList;
         this.sortDirectionList = sortDirectionList;
+
+        List<BiFunction<Client, Client, Integer>> functions = new ArrayList<>();
+        List<Function<Client, ? extends IgnoreNullComparable<?>>> attributes = new ArrayList<>();
+        Iterator<Prefix> prefixIterator = prefixList.iterator();
+        Iterator<SortDirection> sortDirectionIterator = sortDirectionList.iterator();
+        while (prefixIterator.hasNext() && sortDirectionIterator.hasNext()) {
+            Prefix prefix = prefixIterator.next();
+            functions.add(compareFunction(prefix, sortDirectionIterator.next()));
+            attributes.add(getAttributeFunction(prefix));
+        }
+        this.compareFunctions = List.copyOf(functions);
+        this.attributeFunctions = List.copyOf(attributes);
     }
 
     public SortByAttribute(Prefix prefix, SortDirection sortDirection) {
@@ -60,14 +80,47 @@ public class SortByAttribute implements Comparator<Client> {
     @Override
     public int compare(Client a, Client b) {
         int result = 0;
-        Iterator<Prefix> prefixIterator = this.prefixList.listIterator();
-        Iterator<SortDirection> sortDirectionIterator = this.sortDirectionList.iterator();
-        while (result == 0 && prefixIterator.hasNext() && sortDirectionIterator.hasNext()) {
-            Prefix prefix = prefixIterator.next();
-            SortDirection sortDirection = sortDirectionIterator.next();
+        for (int i = 0; result == 0 && i < compareFunctions.size(); i++) {
+            result = compareFunctions.get(i).apply(a, b);
+        }
+        return result;
+    }
+
+    /**
+     * Returns {@code clients} sorted in the order of {@link #compare(Client, Client)}.
+     * The attributes compared are read from each client once, as numbers and strings where they are compared as
+     * such, and the sort then compares those keys instead of reading the attributes of both clients on every
+     * comparison.
+     */
+    public List<Client> sort(Collection<Client> clients) {
+        requireNonNull(clients);
+        SortKey[] keys = new SortKey[clients.size()];
+        int i = 0;
+        for (Client client : clients) {
+            keys[i++] = new SortKey(client, attributeFunctions);
+        }
+        Arrays.sort(keys, this::compareKeys);
 
-            BiFunction<Client, Client, Integer> compareFunction = compareFunction(prefix, sortDirection);
-            result = compareFunction.apply(a, b);
+        List<Client> sortedClients = new ArrayList<>(keys.length);
+        for (SortKey key : keys) {
+            sortedClients.add(key.client);
+        }
+        return sortedClients;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int compareKeys(SortKey a, SortKey b) {
+        int result = 0;
+        for (int i = 0; result == 0 && i < attributeFunctions.size(); i++) {
+            SortDirection sortDirection = sortDirectionList.get(i);
+            Object value = a.values[i];
+            if (value == null) {
+                result = NumberComparable.compareValues(a.numbers[i], b.numbers[i], sortDirection);
+            } else if (value instanceof String) {
+                result = StringComparable.compareValues((String) value, (String) b.values[i], sortDirection);
+            } else {
+                result = ((IgnoreNullComparable) value).compareWithDirection(b.values[i], sortDirection);
+            }
         }
         return result;
     }
@@ -98,4 +151,39 @@ public class SortByAttribute implements Comparator<Client> {
         return this.prefixList.equals(otherSorter.prefixList)
                 && this.sortDirectionList.equals(otherSorter.sortDirectionList);
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(prefixList, sortDirectionList);
+    }
+
+    /**
+     * The attributes of a client compared by a {@code SortByAttribute}, read once.
+     * An attribute compared as a number is kept in {@code numbers}, with no value in {@code values}. An attribute
+     * compared as a string is kept as its string in {@code values}, and any other attribute is kept as it is.
+     */
+    private static class SortKey {
+        private final Client client;
+        private final double[] numbers;
+        private final Object[] values;
+
+        private SortKey(Client client, List<Function<Client, ? extends IgnoreNullComparable<?>>> attributeFunctions) {
+            this.client = client;
+            numbers = new double[attributeFunctions.size()];
+            values = new Object[attributeFunctions.size()];
+            for (int i = 0; i < attributeFunctions.size(); i++) {
+                IgnoreNullComparable<?> attribute = attributeFunctions.get(i).apply(client);
+                if (attribute instanceof ClientId) {
+                    // compared by its whole long id, which a double cannot always hold
+                    values[i] = attribute;
+                } else if (attribute instanceof NumberComparable) {
+                    numbers[i] = ((NumberComparable<?>) attribute).getComparableValue();
+                } else if (attribute instanceof StringComparable) {
+                    values[i] = attribute.toString();
+                } else {
+                    values[i] = attribute;
+                }
+            }
+        }
+    }
 }
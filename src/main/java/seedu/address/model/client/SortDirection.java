@@ -58,6 +58,11 @@ public class SortDirection {
                 && direction.equals(((SortDirection) other).direction)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return direction.hashCode();
+    }
+
     @Override
     public String toString() {
         switch (this.direction) {
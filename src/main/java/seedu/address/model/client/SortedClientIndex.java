@@ -0,0 +1,104 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLIENTID;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the clients of an address book sorted by the {@code SortByAttribute}s most recently asked for.
+ * An index is only built the first time its sort is asked for, and is then kept up to date client by client, so
+ * asking for the same sort again only copies the clients out in order.
+ * Only the {@link #MAX_INDEXES} sorts most recently asked for are kept, such as those of the client list and of the
+ * meeting list, so that a sort tried once does not cost memory and time on every change after.
+ */
+public class SortedClientIndex {
+
+    /** The most indexes kept at a time. */
+    public static final int MAX_INDEXES = 2;
+
+    /** Maps each sort kept to its index, from the sort least recently asked for. */
+    private final Map<SortByAttribute, Index> indexes = new LinkedHashMap<>(MAX_INDEXES + 1, 1, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<SortByAttribute, Index> eldest) {
+            return size() > MAX_INDEXES;
+        }
+    };
+
+    /**
+     * Returns the total order of the clients sorted by {@code sorter}.
+     * Clients that are equal by {@code sorter} are ordered by their client ids, which are unique in an address book.
+     */
+    public static SortByAttribute getOrder(SortByAttribute sorter) {
+        requireNonNull(sorter);
+        return sorter.thenCompareByAttribute(PREFIX_CLIENTID);
+    }
+
+    /**
+     * Adds {@code client} to every index.
+     */
+    public void add(Client client) {
+        requireNonNull(client);
+        indexes.values().forEach(index -> index.add(client));
+    }
+
+    /**
+     * Removes {@code client} from every index.
+     */
+    public void remove(Client client) {
+        requireNonNull(client);
+        indexes.values().forEach(index -> index.remove(client));
+    }
+
+    /**
+     * Returns the clients in the order of {@link #getOrder(SortByAttribute)}.
+     * The index for {@code sorter} is built from {@code clients} if it is not kept yet, and the index least recently
+     * asked for is dropped if more than {@link #MAX_INDEXES} would be kept.
+     *
+     * @param clients every client currently in the address book.
+     */
+    public List<Client> getSortedClients(SortByAttribute sorter, Collection<Client> clients) {
+        requireAllNonNull(sorter, clients);
+        Index index = indexes.computeIfAbsent(sorter, unused -> new Index(getOrder(sorter), clients));
+        return new ArrayList<>(index.clients);
+    }
+
+    /**
+     * Returns true if the clients are kept sorted by {@code sorter}.
+     */
+    boolean isIndexed(SortByAttribute sorter) {
+        return indexes.containsKey(sorter);
+    }
+
+    /**
+     * The clients sorted by an order, kept sorted by binary search as clients are added and removed.
+     */
+    private static class Index {
+        private final Comparator<Client> order;
+        private final List<Client> clients;
+
+        private Index(SortByAttribute order, Collection<Client> clients) {
+            this.order = order;
+            this.clients = order.sort(clients);
+        }
+
+        private void add(Client client) {
+            int position = Collections.binarySearch(clients, client, order);
+            clients.add(position < 0 ? -position - 1 : position, client);
+        }
+
+        private void remove(Client client) {
+            int position = Collections.binarySearch(clients, client, order);
+            if (position >= 0) {
+                clients.remove(position);
+            }
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A list of the clients in {@code source}, either in the order of {@code source} or sorted by a
+ * {@code SortByAttribute}, or with some clients ranked before the others.
+ * Sorting takes the clients already in order from a {@code SortedClientIndex} instead of sorting them, and every
+ * later change to {@code source} only moves the clients changed, found by binary search. A change to many clients
+ * is instead merged into a copy of the list in a single pass, and every change to {@code source} is passed on to the
+ * listeners of this list as a single change.
+ */
+public class SortedClientList {
+
+    /** The clients changed at once, as a fraction of the list, past which the list is merged instead. */
+    private static final double MERGE_FRACTION = 1 / 32.0;
+
+    private final ObservableList<Client> source;
+    private final Function<SortByAttribute, List<Client>> sortedIndex;
+    private final BatchObservableList<Client> clients = new BatchObservableList<>();
+    private final ObservableList<Client> unmodifiableClients = FXCollections.unmodifiableObservableList(clients);
+
+    private SortByAttribute sorter;
+    private Comparator<Client> order;
+    /** Maps the id of every ranked client to its rank, or is null if no clients are ranked. */
+    private Map<ClientId, Integer> ranks;
+
+    /**
+     * Creates a list of the clients in {@code source} in the order of {@code source}.
+     *
+     * @param sortedIndex returns every client in {@code source} sorted by the given {@code SortByAttribute}, as
+     *                    ordered by {@link SortedClientIndex#getOrder(SortByAttribute)}.
+     */
+    public SortedClientList(ObservableList<Client> source, Function<SortByAttribute, List<Client>> sortedIndex) {
+        requireAllNonNull(source, sortedIndex);
+        this.source = source;
+        this.sortedIndex = sortedIndex;
+
+        clients.setAll(source);
+        source.addListener((ListChangeListener<Client>) this::onSourceChanged);
+    }
+
+    /**
+     * Sorts the list by {@code sorter}, and keeps it sorted by {@code sorter} through later changes to the source.
+     */
+    public void setSorter(SortByAttribute sorter) {
+        requireNonNull(sorter);
+        this.sorter = sorter;
+        order = SortedClientIndex.getOrder(sorter);
+        ranks = null;
+        clients.setAll(sortedIndex.apply(sorter));
+    }
+
+    /**
+     * Orders {@code rankedClients} first, in the order given, followed by the other clients in the order of the
+     * source, until the ranking is cleared or the list is sorted.
+     * Only the clients ranked are put in order, and a ranked client edited later keeps its rank.
+     */
+    public void setRanking(List<Client> rankedClients) {
+        requireNonNull(rankedClients);
+        Map<ClientId, Integer> newRanks = new HashMap<>();
+        for (int i = 0; i < rankedClients.size(); i++) {
+            newRanks.put(rankedClients.get(i).getClientId(), i);
+        }
+
+        List<Client> rankedOrder = new ArrayList<>(rankedClients);
+        for (Client client : source) {
+            if (!newRanks.containsKey(client.getClientId())) {
+                rankedOrder.add(client);
+            }
+        }
+        ranks = newRanks;
+        clients.setAll(rankedOrder);
+    }
+
+    /**
+     * Returns the list to the order it had before {@link #setRanking(List)}, if any clients are ranked.
+     */
+    public void clearRanking() {
+        if (ranks == null) {
+            return;
+        }
+
+        List<Client> unrankedClients = getUnrankedClients();
+        ranks = null;
+        clients.setAll(unrankedClients);
+    }
+
+    /**
+     * Returns the clients in the order the list has once the ranking is cleared.
+     */
+    public List<Client> getUnrankedClients() {
+        if (ranks == null) {
+            return unmodifiableClients;
+        }
+        return sorter == null ? source : sortedIndex.apply(sorter);
+    }
+
+    /**
+     * Returns an unmodifiable view of the list.
+     */
+    public ObservableList<Client> asUnmodifiableObservableList() {
+        return unmodifiableClients;
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends Client> change) {
+        if (order == null && ranks == null) {
+            clients.changeAll(() -> followSource(change));
+            return;
+        }
+
+        List<Client> removedClients = new ArrayList<>();
+        List<Client> addedClients = new ArrayList<>();
+        while (change.next()) {
+            removedClients.addAll(change.getRemoved());
+            addedClients.addAll(change.getAddedSubList());
+        }
+
+        Comparator<Client> mergeOrder = ranks != null ? Comparator.comparingInt(this::getRank) : order;
+        if (removedClients.size() + addedClients.size() > clients.size() * MERGE_FRACTION) {
+            clients.setAll(merge(removedClients, addedClients, mergeOrder));
+        } else if (ranks != null) {
+            clients.changeAll(() -> followRanking(removedClients, addedClients));
+        } else {
+            clients.changeAll(() -> followSorter(removedClients, addedClients));
+        }
+    }
+
+    /**
+     * Returns the list without {@code removedClients} and with {@code addedClients}, each put after the clients not
+     * after it in {@code mergeOrder}, by a single pass over the list.
+     */
+    private List<Client> merge(List<Client> removedClients, List<Client> addedClients,
+            Comparator<Client> mergeOrder) {
+        Set<Client> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(removedClients);
+        List<Client> added = new ArrayList<>(addedClients);
+        added.sort(mergeOrder);
+
+        List<Client> merged = new ArrayList<>(clients.size() - removed.size() + added.size());
+        int next = 0;
+        for (Client client : clients) {
+            if (removed.contains(client)) {
+                continue;
+            }
+            while (next < added.size() && mergeOrder.compare(added.get(next), client) < 0) {
+                merged.add(added.get(next++));
+            }
+            merged.add(client);
+        }
+        merged.addAll(added.subList(next, added.size()));
+        return merged;
+    }
+
+    /**
+     * Removes {@code removedClients} from the list, and adds each of {@code addedClients} at its position in the
+     * order, both found by binary search.
+     */
+    private void followSorter(List<Client> removedClients, List<Client> addedClients) {
+        for (Client client : removedClients) {
+            int position = Collections.binarySearch(clients, client, order);
+            if (position >= 0) {
+                clients.remove(position);
+            }
+        }
+        for (Client client : addedClients) {
+            int position = Collections.binarySearch(clients, client, order);
+            clients.add(position < 0 ? -position - 1 : position, client);
+        }
+    }
+
+    /**
+     * Removes {@code removedClients} from the list, and adds each of {@code addedClients} after the clients ranked
+     * before it, or at the end if it is not ranked.
+     */
+    private void followRanking(List<Client> removedClients, List<Client> addedClients) {
+        removedClients.forEach(clients::remove);
+        for (Client client : addedClients) {
+            Integer rank = ranks.get(client.getClientId());
+            if (rank == null) {
+                clients.add(client);
+                continue;
+            }
+
+            int position = 0;
+            while (position < clients.size() && isRankedBefore(clients.get(position), rank)) {
+                position++;
+            }
+            clients.add(position, client);
+        }
+    }
+
+    private boolean isRankedBefore(Client client, int rank) {
+        Integer clientRank = ranks.get(client.getClientId());
+        return clientRank != null && clientRank < rank;
+    }
+
+    /**
+     * Returns the rank of {@code client}, with the clients not ranked all ranked last.
+     */
+    private int getRank(Client client) {
+        return ranks.getOrDefault(client.getClientId(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Applies {@code change} to the list at the same positions as in the source.
+     */
+    private void followSource(ListChangeListener.Change<? extends Client> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                clients.setAll(source);
+                return;
+            }
+
+            if (change.wasRemoved()) {
+                clients.remove(change.getFrom(), change.getFrom() + change.getRemovedSize());
+            }
+            if (change.wasAdded()) {
+                clients.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
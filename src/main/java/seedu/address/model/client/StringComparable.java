@@ -6,8 +6,14 @@ package seedu.address.model.client;
 public abstract class StringComparable<T> implements IgnoreNullComparable<T> {
     @Override
     public int compareWithDirection(T other, SortDirection sortDirection) {
-        String a = this.toString();
-        String b = other.toString();
+        return compareValues(this.toString(), other.toString(), sortDirection);
+    }
+
+    /**
+     * Compares the strings {@code a} and {@code b} ignoring case in {@code sortDirection}, where an empty string is
+     * positioned last.
+     */
+    static int compareValues(String a, String b, SortDirection sortDirection) {
         if (a.isEmpty() && b.isEmpty()) {
             return 0;
         }
@@ -6,11 +6,23 @@ import static seedu.address.model.client.Client.EditClientDescriptor.createEdite
 import static seedu.address.model.client.Client.EditClientDescriptor.createEditedMeetingOverClient;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
@@ -26,69 +38,128 @@ import seedu.address.model.client.exceptions.DuplicateClientException;
  * unique in terms of identity in the UniqueClientList. However, the removal of a client uses Client#equals(Object) so
  * as to ensure that the client with exactly the same fields will be removed.
  * <p>
+ * Clients are additionally indexed by their {@code ClientId} and by their name and email, which are kept in sync with
+ * every mutation of the backing list so that lookups by id and duplicate checks do not need to scan the list.
+ * The end of every planned meeting is kept in a min-heap so that meetings that are over can be found without
+ * scanning the list.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Client#isSameClient(Client)
  */
 public class UniqueClientList implements Iterable<Client> {
 
-    private final ObservableList<Client> internalList = FXCollections.observableArrayList();
+    public static final String MESSAGE_INCONSISTENT_INDEX = "Client id index is inconsistent with the client list";
+
+    private final BatchObservableList<Client> internalList = new BatchObservableList<>();
     private final ObservableList<Client> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
 
+    /** Maps the id of every client in {@code internalList} to the client. */
+    private final Map<ClientId, Client> clientIdIndex = new HashMap<>();
+    /** Maps the id of every client in {@code internalList} to its position in the list. */
+    private final Map<ClientId, Integer> clientIdPositions = new HashMap<>();
+    /** Maps the name and email of every client in {@code internalList} to the client. */
+    private final Map<ClientIdentity, Client> identityIndex = new HashMap<>();
     /**
-     * Replaces the client {@code target} in the list with {@code editedClient}.
-     * {@code target} must exist in the list.
-     * The client identity of {@code editedClient} must not be the same as another existing client in the list.
+     * Holds the end of the next meeting of clients in {@code internalList}, earliest first. Entries of clients that
+     * have since been edited or removed are discarded when they reach the top of the heap.
+     */
+    private final PriorityQueue<MeetingExpiry> meetingExpiries = new PriorityQueue<>();
+
+    private boolean isIndexCheckEnabled = false;
+
+    /**
+     * Replaces the clients with the given {@code clientIds} in the list with their edited versions as a single change.
+     * Every client must exist in the list.
+     * The client identity of every edited client must not be the same as another client in the list after the edit.
+     * If the edit would result in duplicate clients, the list is left unchanged.
+     *
+     * @return the edited clients in the order of {@code clientIds}.
      */
     public List<Client> setAll(List<ClientId> clientIds, EditClientDescriptor editClientDescriptor) {
         requireAllNonNull(clientIds, editClientDescriptor);
-        List<Client> duplicateList = new ArrayList<>(internalList);
-        // Check for duplicate
-        List<Client> editedClientList = clientIds.stream().map(clientId -> {
-            Client client = getClient(clientId);
-            Client editedClient = createEditedClient(client, editClientDescriptor);
-            int index = duplicateList.indexOf(client);
-            duplicateList.set(index, editedClient);
-            return editedClient;
-        }).collect(Collectors.toList());
-
-        if (!clientsAreUnique(duplicateList)) {
+        Map<ClientId, Client> editedClients = new LinkedHashMap<>();
+        for (ClientId clientId : clientIds) {
+            if (!editedClients.containsKey(clientId)) {
+                editedClients.put(clientId, createEditedClient(getClient(clientId), editClientDescriptor));
+            }
+        }
+
+        if (!editsAreUnique(editedClients)) {
             throw new DuplicateClientException();
         }
 
-        // set if no duplicate
-        clientIds.forEach(clientId -> {
-            Client client = getClient(clientId);
-            Client editedClient = createEditedClient(client, editClientDescriptor);
-            int index = internalList.indexOf(client);
-            internalList.set(index, editedClient);
+        SortedMap<Integer, Client> replacements = new TreeMap<>();
+        editedClients.forEach((clientId, editedClient) -> {
+            Client client = clientIdIndex.get(clientId);
+            replacements.put(getPosition(clientId), editedClient);
+            clientIdIndex.put(clientId, editedClient);
+            identityIndex.remove(new ClientIdentity(client), client);
         });
+        editedClients.values().forEach(editedClient -> {
+            identityIndex.put(new ClientIdentity(editedClient), editedClient);
+            trackMeeting(editedClient);
+        });
+        internalList.setAllAt(replacements);
+        compactMeetingExpiries();
+        checkIndex();
 
-        return editedClientList;
+        return clientIds.stream().map(editedClients::get).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if replacing the clients in the list with {@code editedClients}, keyed by their client id, keeps
+     * every client in the list unique.
+     */
+    private boolean editsAreUnique(Map<ClientId, Client> editedClients) {
+        Set<ClientIdentity> editedIdentities = new HashSet<>();
+        for (Client editedClient : editedClients.values()) {
+            ClientIdentity identity = new ClientIdentity(editedClient);
+            if (!editedIdentities.add(identity)) {
+                return false;
+            }
+
+            // a client holding the identity only conflicts if it is not being edited to another identity
+            Client existingClient = identityIndex.get(identity);
+            if (existingClient != null && !editedClients.containsKey(existingClient.getClientId())) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
      * Returns the client with the corresponding {@code clientId}.
      */
     public Client getClient(ClientId clientId) {
-        ObservableList<Client> clientInQuestion = internalList
-            .filtered(client -> client.getClientId().equals(clientId));
-        if (clientInQuestion.isEmpty()) {
+        Client client = clientIdIndex.get(clientId);
+        if (client == null) {
             throw new ClientNotFoundException();
         }
-        return clientInQuestion.get(0);
+        return client;
+    }
+
+    /**
+     * Returns the position in the list of the client with the corresponding {@code clientId}.
+     */
+    private int getPosition(ClientId clientId) {
+        Integer position = clientIdPositions.get(clientId);
+        if (position == null) {
+            throw new ClientNotFoundException();
+        }
+        return position;
     }
 
     /**
      * Returns true if {@code clients} contains only unique clients.
      */
     private boolean clientsAreUnique(List<Client> clients) {
-        for (int i = 0; i < clients.size() - 1; i++) {
-            for (int j = i + 1; j < clients.size(); j++) {
-                if (clients.get(i).isSameClient(clients.get(j))) {
-                    return false;
-                }
+        Set<ClientId> clientIds = new HashSet<>();
+        Set<ClientIdentity> identities = new HashSet<>();
+        for (Client client : clients) {
+            if (!clientIds.add(client.getClientId()) || !identities.add(new ClientIdentity(client))) {
+                return false;
             }
         }
         return true;
@@ -104,6 +175,12 @@ public class UniqueClientList implements Iterable<Client> {
             throw new DuplicateClientException();
         }
         internalList.add(toAdd);
+        clientIdIndex.put(toAdd.getClientId(), toAdd);
+        clientIdPositions.put(toAdd.getClientId(), internalList.size() - 1);
+        identityIndex.put(new ClientIdentity(toAdd), toAdd);
+        trackMeeting(toAdd);
+        compactMeetingExpiries();
+        checkIndex();
     }
 
     /**
@@ -111,7 +188,8 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public boolean contains(Client toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameClient);
+        return clientIdIndex.containsKey(toCheck.getClientId())
+            || identityIndex.containsKey(new ClientIdentity(toCheck));
     }
 
     /**
@@ -121,26 +199,23 @@ public class UniqueClientList implements Iterable<Client> {
      * @return true if a client with the clientId exists
      */
     public boolean hasClientId(ClientId clientId) {
-        ObservableList<Client> clientInQuestion = internalList
-            .filtered(client -> client.getClientId().equals(clientId));
-        return !clientInQuestion.isEmpty();
+        return clientIdIndex.containsKey(clientId);
     }
 
     /**
-     * Removes the equivalent client with matching client id and/or email from the list.
-     * The client must exist in the list.
+     * Removes the clients with the given {@code clientIds} from the list as a single change.
+     * Every client must exist in the list, otherwise the list is left unchanged.
      */
     public List<Client> removeAll(List<ClientId> clientIds) {
         requireAllNonNull(clientIds);
         List<Client> clientFound = new ArrayList<>();
         List<ClientId> clientIdNotFound = new ArrayList<>();
         for (ClientId clientId : clientIds) {
-            ObservableList<Client> clientInQuestion = internalList
-                .filtered(client -> client.getClientId().equals(clientId));
-            if (clientInQuestion.isEmpty()) {
+            Client client = clientIdIndex.get(clientId);
+            if (client == null) {
                 clientIdNotFound.add(clientId);
             } else {
-                clientFound.add(clientInQuestion.get(0));
+                clientFound.add(client);
             }
         }
 
@@ -148,7 +223,18 @@ public class UniqueClientList implements Iterable<Client> {
             throw new ClientNotFoundException(clientIdNotFound);
         }
 
-        clientFound.forEach(this::remove);
+        SortedSet<Integer> positions = new TreeSet<>();
+        clientFound.forEach(client -> {
+            positions.add(getPosition(client.getClientId()));
+            clientIdIndex.remove(client.getClientId());
+            clientIdPositions.remove(client.getClientId());
+            identityIndex.remove(new ClientIdentity(client), client);
+        });
+        internalList.removeAllAt(positions);
+        if (!positions.isEmpty()) {
+            reindexPositionsFrom(positions.first());
+        }
+        checkIndex();
         return clientFound;
     }
 
@@ -158,30 +244,98 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public void remove(Client toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Integer position = clientIdPositions.get(toRemove.getClientId());
+        if (position == null || !internalList.get(position).equals(toRemove)) {
             throw new ClientNotFoundException();
         }
+
+        internalList.remove((int) position);
+        clientIdIndex.remove(toRemove.getClientId());
+        clientIdPositions.remove(toRemove.getClientId());
+        identityIndex.remove(new ClientIdentity(toRemove), toRemove);
+        reindexPositionsFrom(position);
+        checkIndex();
     }
 
     /**
-     * Replaces the client in the list with {@code editedClient} if their NextMeeting date is over.
+     * Replaces every client in the list whose NextMeeting is over with a client that has the meeting recorded as
+     * its LastMet, as a single change.
+     * Only the clients whose meetings are over are visited.
      */
     public void updateLastMetDate() {
         LocalDate currentDate = LocalDate.now();
         LocalTime currentTime = LocalTime.now();
 
-        internalList.forEach(client -> {
-            if (client.getNextMeeting().isMeetingOver(currentDate, currentTime)) {
-                Client editedClient = createEditedMeetingOverClient(client);
-                int index = internalList.indexOf(client);
-                internalList.set(index, editedClient);
+        SortedMap<Integer, Client> replacements = new TreeMap<>();
+        discardStaleMeetingExpiries();
+        while (!meetingExpiries.isEmpty()
+            && meetingExpiries.peek().client.getNextMeeting().isMeetingOver(currentDate, currentTime)) {
+            Client client = meetingExpiries.poll().client;
+            Client editedClient = createEditedMeetingOverClient(client);
+            replacements.put(getPosition(client.getClientId()), editedClient);
+            clientIdIndex.put(editedClient.getClientId(), editedClient);
+            identityIndex.put(new ClientIdentity(editedClient), editedClient);
+            discardStaleMeetingExpiries();
+        }
+        internalList.setAllAt(replacements);
+        checkIndex();
+    }
+
+    /**
+     * Returns the end of the earliest meeting planned with a client in the list, if any.
+     */
+    public Optional<LocalDateTime> getNextMeetingExpiry() {
+        discardStaleMeetingExpiries();
+        return Optional.ofNullable(meetingExpiries.peek()).map(expiry -> expiry.end);
+    }
+
+    /**
+     * Adds the next meeting of {@code client} to the meeting expiry heap if a meeting is planned.
+     */
+    private void trackMeeting(Client client) {
+        LocalDateTime end = client.getNextMeeting().getEndDateTime();
+        if (end != null) {
+            meetingExpiries.add(new MeetingExpiry(end, client));
+        }
+    }
+
+    /**
+     * Rebuilds the meeting expiry heap once its stale entries outnumber the clients, as edits leave them behind.
+     * Only called once the backing list holds every client tracked, so that no entry added for an edit is lost.
+     */
+    private void compactMeetingExpiries() {
+        if (meetingExpiries.size() > 2 * internalList.size()) {
+            rebuildMeetingExpiries();
+        }
+    }
+
+    /**
+     * Removes entries from the top of the meeting expiry heap until the earliest entry belongs to a client in the list.
+     */
+    private void discardStaleMeetingExpiries() {
+        while (!meetingExpiries.isEmpty()
+            && clientIdIndex.get(meetingExpiries.peek().client.getClientId()) != meetingExpiries.peek().client) {
+            meetingExpiries.poll();
+        }
+    }
+
+    /**
+     * Rebuilds the meeting expiry heap from the backing list.
+     */
+    private void rebuildMeetingExpiries() {
+        meetingExpiries.clear();
+        for (Client client : internalList) {
+            LocalDateTime end = client.getNextMeeting().getEndDateTime();
+            if (end != null) {
+                meetingExpiries.add(new MeetingExpiry(end, client));
             }
-        });
+        }
     }
 
     public void setClients(UniqueClientList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
     }
 
     /**
@@ -195,25 +349,73 @@ public class UniqueClientList implements Iterable<Client> {
         }
 
         internalList.setAll(clients);
+        rebuildIndex();
     }
 
     /**
-     * Finds Clients with meetings on the given {@code date}.
-     *
-     * @param date inputted by user for the "schedule" command.
-     * @return list of clients with meetings on the given {@code date}.
+     * Rebuilds the client id and identity indexes and the meeting expiry heap from the backing list.
      */
+    private void rebuildIndex() {
+        clientIdIndex.clear();
+        clientIdPositions.clear();
+        identityIndex.clear();
+        internalList.forEach(client -> {
+            clientIdIndex.put(client.getClientId(), client);
+            identityIndex.put(new ClientIdentity(client), client);
+        });
+        reindexPositionsFrom(0);
+        rebuildMeetingExpiries();
+        checkIndex();
+    }
 
-    public List<Client> retrieveNextMeetings(LocalDate date) {
-        Predicate<Client> clientsWithSameDateNextMeeting = (client) -> {
-            LocalDate meetingDate = client.getNextMeetingDate();
-            if (meetingDate != null) {
-                return meetingDate.equals(date);
-            } else {
+    /**
+     * Updates the recorded positions of the clients from {@code start} onwards in the backing list.
+     */
+    private void reindexPositionsFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            clientIdPositions.put(internalList.get(i).getClientId(), i);
+        }
+    }
+
+    /**
+     * Enables or disables verifying the client id index against the backing list after every mutation.
+     * Verification takes linear time and is meant to be enabled in tests only.
+     */
+    public void setIndexCheckEnabled(boolean isIndexCheckEnabled) {
+        this.isIndexCheckEnabled = isIndexCheckEnabled;
+        checkIndex();
+    }
+
+    /**
+     * Returns true if the client id and identity indexes hold exactly the clients in the backing list at their
+     * positions.
+     */
+    public boolean isIndexConsistent() {
+        if (clientIdIndex.size() != internalList.size() || clientIdPositions.size() != internalList.size()
+            || identityIndex.size() != internalList.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < internalList.size(); i++) {
+            Client client = internalList.get(i);
+            ClientId clientId = client.getClientId();
+            if (clientIdIndex.get(clientId) != client || !Integer.valueOf(i).equals(clientIdPositions.get(clientId))
+                || identityIndex.get(new ClientIdentity(client)) != client) {
                 return false;
             }
-        };
-        return internalList.filtered(clientsWithSameDateNextMeeting);
+        }
+        return true;
+    }
+
+    /**
+     * Verifies the client id and identity indexes if index checking is enabled.
+     *
+     * @throws IllegalStateException if the index is inconsistent with the backing list.
+     */
+    private void checkIndex() {
+        if (isIndexCheckEnabled && !isIndexConsistent()) {
+            throw new IllegalStateException(MESSAGE_INCONSISTENT_INDEX);
+        }
     }
 
     /**
@@ -239,4 +441,49 @@ public class UniqueClientList implements Iterable<Client> {
             || (other instanceof UniqueClientList // instanceof handles nulls
             && internalList.equals(((UniqueClientList) other).internalList));
     }
+
+    /**
+     * Key made up of the name and email of a client, which together identify a client in
+     * {@code Client#isSameClient(Client)} apart from its {@code ClientId}.
+     */
+    private static class ClientIdentity {
+        private final Name name;
+        private final Email email;
+
+        ClientIdentity(Client client) {
+            this.name = client.getName();
+            this.email = client.getEmail();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                || (other instanceof ClientIdentity // instanceof handles nulls
+                && name.equals(((ClientIdentity) other).name)
+                && email.equals(((ClientIdentity) other).email));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, email);
+        }
+    }
+
+    /**
+     * End of the next meeting of a client, ordered by the end of the meeting.
+     */
+    private static class MeetingExpiry implements Comparable<MeetingExpiry> {
+        private final LocalDateTime end;
+        private final Client client;
+
+        MeetingExpiry(LocalDateTime end, Client client) {
+            this.end = end;
+            this.client = client;
+        }
+
+        @Override
+        public int compareTo(MeetingExpiry other) {
+            return end.compareTo(other.end);
+        }
+    }
 }
@@ -3,8 +3,10 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
 import seedu.address.model.client.Client;
 import seedu.address.model.client.StringComparable;
 
@@ -19,7 +21,7 @@ public class Tag extends StringComparable<Tag> {
 
     // TODO: tag color + FXML
     private final String tagName;
-    private final ObservableList<Client> clients = FXCollections.observableArrayList();
+    private final Set<Client> clients = Collections.newSetFromMap(new IdentityHashMap<>());
 
     /**
      * Constructs a {@code Tag}.
@@ -46,9 +48,7 @@ public class Tag extends StringComparable<Tag> {
      */
     public void addClient(Client client) {
         requireNonNull(client);
-        if (!clients.contains(client)) {
-            clients.add(client);
-        }
+        clients.add(client);
     }
 
     /**
@@ -82,12 +82,12 @@ public class Tag extends StringComparable<Tag> {
     }
 
     /**
-     * Returns a list of clients that have this tag.
+     * Returns the clients that have this tag.
      *
-     * @return A list of clients that have this tag.
+     * @return A set of clients that have this tag.
      */
-    public ObservableList<Client> getClients() {
-        return FXCollections.unmodifiableObservableList(clients);
+    public Set<Client> getClients() {
+        return Collections.unmodifiableSet(clients);
     }
 
     @Override
@@ -0,0 +1,123 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientId;
+
+/**
+ * Indexes the clients having each tag name as a set of bits.
+ * Every client in the index is given a dense ordinal, and the clients with a tag name are the set bits of the
+ * {@code BitSet} kept for that name, so that queries across tags can be answered with bitwise operations without
+ * visiting the clients.
+ */
+public class TagClientIndex {
+
+    /** Maps the id of every indexed client to its ordinal. */
+    private final Map<ClientId, Integer> ordinals = new HashMap<>();
+    /** Holds the ordinals of every indexed client. */
+    private final BitSet indexedClients = new BitSet();
+    /** Maps the name of every tag of an indexed client to the ordinals of the clients with that tag. */
+    private final Map<String, BitSet> clientsByTagName = new HashMap<>();
+
+    private long version = 0;
+
+    /**
+     * Adds {@code client} and its tags to the index, reusing the smallest free ordinal.
+     */
+    public void add(Client client) {
+        requireNonNull(client);
+        if (ordinals.containsKey(client.getClientId())) {
+            remove(client);
+        }
+
+        int ordinal = indexedClients.nextClearBit(0);
+        ordinals.put(client.getClientId(), ordinal);
+        indexedClients.set(ordinal);
+        client.getTags().forEach(tag -> clientsByTagName.computeIfAbsent(tag.getName(), unused -> new BitSet())
+            .set(ordinal));
+        version++;
+    }
+
+    /**
+     * Removes the client with the client id of {@code client} and its tags from the index.
+     */
+    public void remove(Client client) {
+        requireNonNull(client);
+        Integer ordinal = ordinals.remove(client.getClientId());
+        if (ordinal == null) {
+            return;
+        }
+
+        indexedClients.clear(ordinal);
+        client.getTags().forEach(tag -> {
+            BitSet clients = clientsByTagName.get(tag.getName());
+            if (clients == null) {
+                return;
+            }
+
+            clients.clear(ordinal);
+            if (clients.isEmpty()) {
+                clientsByTagName.remove(tag.getName());
+            }
+        });
+        version++;
+    }
+
+    /**
+     * Returns the ordinals of every indexed client.
+     */
+    public BitSet getAllClients() {
+        return (BitSet) indexedClients.clone();
+    }
+
+    /**
+     * Returns the ordinals of the clients with a tag whose name contains {@code keyword}, ignoring case.
+     */
+    public BitSet getClientsWithTag(String keyword) {
+        requireNonNull(keyword);
+        String lowerCaseKeyword = keyword.toLowerCase();
+        BitSet clients = new BitSet();
+        clientsByTagName.forEach((tagName, tagClients) -> {
+            if (tagName.toLowerCase().contains(lowerCaseKeyword)) {
+                clients.or(tagClients);
+            }
+        });
+        return clients;
+    }
+
+    /**
+     * Returns true if the ordinal of {@code client} is set in {@code clients}.
+     */
+    public boolean contains(BitSet clients, Client client) {
+        Integer ordinal = ordinals.get(client.getClientId());
+        return ordinal != null && clients.get(ordinal);
+    }
+
+    /**
+     * Returns the ids of the clients whose ordinals are set in {@code clients}.
+     */
+    public Set<ClientId> getClientIds(BitSet clients) {
+        requireNonNull(clients);
+        Set<ClientId> clientIds = new HashSet<>();
+        ordinals.forEach((clientId, ordinal) -> {
+            if (clients.get(ordinal)) {
+                clientIds.add(clientId);
+            }
+        });
+        return clientIds;
+    }
+
+    /**
+     * Returns a number that changes whenever a client is added to or removed from the index.
+     */
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Represents a combination of tag keywords that a client's tags must satisfy.
+ * Every tag expression must be satisfied. Within a tag expression, {@code &} binds tighter than {@code |}, and a
+ * keyword preceded by {@code -} is satisfied by the clients without a matching tag.
+ * Guarantees: immutable; every tag expression is valid as declared in {@link #isValidTagExpression(String)}
+ */
+public class TagExpression {
+
+    public static final String MESSAGE_CONSTRAINTS = "Tag filters should be alphanumeric tag keywords joined by "
+            + "& (and) or | (or), each optionally preceded by - (not), e.g. t/vip&t/retiree t/-inactive";
+
+    private static final String TERM_REGEX = "(-?(t/)?|t/-)\\p{Alnum}+";
+    public static final String VALIDATION_REGEX = TERM_REGEX + "([&|]" + TERM_REGEX + ")*";
+
+    private static final String OR_DELIMITER = "\\|";
+    private static final String AND_DELIMITER = "&";
+    private static final String NOT_PREFIX = "-";
+    private static final String TAG_PREFIX = "t/";
+
+    private final List<String> tagExpressions;
+
+    /**
+     * Constructs a {@code TagExpression} satisfied by the clients that satisfy every one of {@code tagExpressions}.
+     *
+     * @param tagExpressions valid tag expressions.
+     */
+    public TagExpression(List<String> tagExpressions) {
+        requireNonNull(tagExpressions);
+        tagExpressions.forEach(tagExpression -> checkArgument(isValidTagExpression(tagExpression),
+                MESSAGE_CONSTRAINTS));
+        this.tagExpressions = List.copyOf(tagExpressions);
+    }
+
+    /**
+     * Returns true if a given string is a valid tag expression.
+     */
+    public static boolean isValidTagExpression(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns the ordinals in {@code index} of the clients that satisfy this expression, computed from the tag
+     * bitsets of {@code index} alone.
+     */
+    public BitSet evaluate(TagClientIndex index) {
+        requireNonNull(index);
+        BitSet clients = index.getAllClients();
+        tagExpressions.forEach(tagExpression -> clients.and(evaluateDisjunction(tagExpression, index)));
+        return clients;
+    }
+
+    private static BitSet evaluateDisjunction(String tagExpression, TagClientIndex index) {
+        BitSet clients = new BitSet();
+        for (String conjunction : tagExpression.split(OR_DELIMITER)) {
+            clients.or(evaluateConjunction(conjunction, index));
+        }
+        return clients;
+    }
+
+    private static BitSet evaluateConjunction(String conjunction, TagClientIndex index) {
+        BitSet clients = index.getAllClients();
+        for (String term : conjunction.split(AND_DELIMITER)) {
+            // the tag prefix may be given before or after the negation
+            String keyword = term.startsWith(TAG_PREFIX) ? term.substring(TAG_PREFIX.length()) : term;
+            boolean isNegated = keyword.startsWith(NOT_PREFIX);
+            if (isNegated) {
+                keyword = keyword.substring(NOT_PREFIX.length());
+            }
+            if (keyword.startsWith(TAG_PREFIX)) {
+                keyword = keyword.substring(TAG_PREFIX.length());
+            }
+
+            BitSet tagged = index.getClientsWithTag(keyword);
+            if (isNegated) {
+                clients.andNot(tagged);
+            } else {
+                clients.and(tagged);
+            }
+        }
+        return clients;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagExpression // instanceof handles nulls
+                && tagExpressions.equals(((TagExpression) other).tagExpressions)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return tagExpressions.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.join(" ", tagExpressions);
+    }
+}
@@ -3,8 +3,15 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
@@ -13,12 +20,26 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.model.tag.exceptions.DuplicateTagException;
 import seedu.address.model.tag.exceptions.TagNotFoundException;
 
+/**
+ * A list of tags that enforces uniqueness between its elements and does not allow nulls.
+ * A tag is considered unique by comparing using {@code Tag#isSameTag(Tag)}.
+ * <p>
+ * The number of clients referencing each tag name is counted, so that a tag is added when the first client with its
+ * name is added and removed as soon as the last client with its name is removed.
+ * <p>
+ * Tags are also kept in a map by name alongside the list, so that looking up a tag by name takes constant time.
+ */
 public class UniqueTagList implements Iterable<Tag> {
 
     // TODO: fix bug where update event not fired
     private final ObservableList<Tag> internalList = FXCollections.observableArrayList();
     private final ObservableList<Tag> internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
 
+    /** Maps the name of every tag in the list to the tag. */
+    private final Map<String, Tag> tagsByName = new HashMap<>();
+    /** Maps the name of every tag referenced by a client to the number of clients referencing it. */
+    private final Map<String, Integer> referenceCounts = new HashMap<>();
+
     /**
      * Returns true if a tag with the given tagName exists.
      *
@@ -26,8 +47,7 @@ public class UniqueTagList implements Iterable<Tag> {
      * @return true if a tag with the tagName exists
      */
     public boolean hasTagName(String tagName) {
-        ObservableList<Tag> tagInQuestion = internalList.filtered(tag -> tag.getName().equals(tagName));
-        return !tagInQuestion.isEmpty();
+        return tagsByName.containsKey(tagName);
     }
 
     /**
@@ -41,9 +61,77 @@ public class UniqueTagList implements Iterable<Tag> {
             throw new DuplicateTagException();
         }
 
+        tagsByName.put(toAdd.getName(), toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds every tag in {@code toAdd} to the list as a single change.
+     * The list is left unchanged if a tag in {@code toAdd} is the same as another tag in {@code toAdd} or the list.
+     *
+     * @param toAdd Tags to be added.
+     */
+    public void addAll(Collection<Tag> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<String, Tag> added = new HashMap<>();
+        List<Tag> tagsToAdd = new ArrayList<>(toAdd.size());
+        for (Tag tag : toAdd) {
+            requireNonNull(tag);
+            if (tagsByName.containsKey(tag.getName()) || added.putIfAbsent(tag.getName(), tag) != null) {
+                throw new DuplicateTagException();
+            }
+            tagsToAdd.add(tag);
+        }
+
+        tagsByName.putAll(added);
+        internalList.addAll(tagsToAdd);
+    }
+
+    /**
+     * Records a client referencing {@code tag}, adding {@code tag} to the list if no tag with its name exists.
+     *
+     * @param tag Tag referenced by the client.
+     */
+    public void addReference(Tag tag) {
+        requireNonNull(tag);
+        int referenceCount = referenceCounts.merge(tag.getName(), 1, Integer::sum);
+        if (referenceCount == 1 && tagsByName.putIfAbsent(tag.getName(), tag) == null) {
+            internalList.add(tag);
+        }
+    }
+
+    /**
+     * Records a client no longer referencing {@code tag}, removing the tag with its name from the list once no
+     * client references it.
+     *
+     * @param tag Tag no longer referenced by the client.
+     */
+    public void removeReference(Tag tag) {
+        requireNonNull(tag);
+        String tagName = tag.getName();
+        Integer referenceCount = referenceCounts.get(tagName);
+        if (referenceCount == null) {
+            return;
+        }
+
+        if (referenceCount > 1) {
+            referenceCounts.put(tagName, referenceCount - 1);
+        } else {
+            referenceCounts.remove(tagName);
+            Tag removedTag = tagsByName.remove(tagName);
+            if (removedTag != null) {
+                internalList.remove(removedTag);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of clients referencing a tag with the given {@code tagName}.
+     */
+    public int getReferenceCount(String tagName) {
+        return referenceCounts.getOrDefault(tagName, 0);
+    }
+
     /**
      * Returns true if the list contains {@code toCheck}.
      *
@@ -52,7 +140,7 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public boolean contains(Tag toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTag);
+        return tagsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -65,6 +153,10 @@ public class UniqueTagList implements Iterable<Tag> {
         if (filteredList.size() < 1) {
             throw new TagNotFoundException();
         } else {
+            filteredList.forEach(tag -> {
+                referenceCounts.remove(tag.getName());
+                tagsByName.remove(tag.getName());
+            });
             internalList.removeAll(filteredList);
             return filteredList;
         }
@@ -74,16 +166,17 @@ public class UniqueTagList implements Iterable<Tag> {
      * Returns the tag with the corresponding {@code tagName}
      */
     public Tag getTag(String tagName) {
-        ObservableList<Tag> tagInQuestion = internalList.filtered(tag -> tag.getName().equals(tagName));
-        if (tagInQuestion.isEmpty()) {
+        Tag tag = tagsByName.get(tagName);
+        if (tag == null) {
             throw new TagNotFoundException();
         }
-        return tagInQuestion.get(0);
+        return tag;
     }
 
     /**
      * Replaces the contents of this list with {@code tags}.
      * {@code tags} must not contain duplicate tags.
+     * Tags that are still referenced by clients are kept even if they are not in {@code tags}.
      */
     public void setTags(List<Tag> tags) {
         requireAllNonNull(tags);
@@ -91,18 +184,24 @@ public class UniqueTagList implements Iterable<Tag> {
             throw new DuplicateTagException();
         }
 
-        internalList.setAll(tags);
+        Map<String, Tag> replacement = new LinkedHashMap<>();
+        tags.forEach(tag -> replacement.put(tag.getName(), tag));
+        internalList.stream()
+            .filter(tag -> referenceCounts.containsKey(tag.getName()))
+            .forEach(tag -> replacement.putIfAbsent(tag.getName(), tag));
+        tagsByName.clear();
+        tagsByName.putAll(replacement);
+        internalList.setAll(replacement.values());
     }
 
     /**
      * Returns true if {@code tags} contains only unique tags.
      */
     private boolean tagsAreUnique(List<Tag> tags) {
-        for (int i = 0; i < tags.size() - 1; i++) {
-            for (int j = i + 1; j < tags.size(); j++) {
-                if (tags.get(i).isSameTag(tags.get(j))) {
-                    return false;
-                }
+        Set<String> tagNames = new HashSet<>();
+        for (Tag tag : tags) {
+            if (!tagNames.add(tag.getName())) {
+                return false;
             }
         }
         return true;
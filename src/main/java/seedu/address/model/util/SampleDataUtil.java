@@ -37,43 +37,43 @@ public class SampleDataUtil {
     public static Client[] getSampleClients(AddressBook addressBook) throws ParseException {
         return new Client[] {
             new Client(new ClientId("0"), new Name("Alex Yeoh"), new Phone("87438807"),
-                new Email("alexyeoh@example.com"), new Address("Blk 30 Geylang Street 29, #06-40"),
-                new RiskAppetite("1"), new DisposableIncome("500"),
-                new CurrentPlan(
+                new Email("alexyeoh@example.com"), Address.of("Blk 30 Geylang Street 29, #06-40"),
+                RiskAppetite.of("1"), DisposableIncome.of("500"),
+                CurrentPlan.of(
                     "Prudential PRUwealth, AIA Pro Achiever 2.0, Syfe Select, a lot more plans..."
                         + ", Even more plans..."),
-                new LastMet("24-01-2021"),
+                LastMet.of("24-01-2021"),
                 new NextMeeting("25-12-2021", "08:00", "09:00", "Starbucks @ UTown", "Alex Yeoh"),
                 getTagSet(addressBook, "friends")),
             new Client(new ClientId("1"), new Name("Bernice Yu"), new Phone("99272758"),
-                new Email("berniceyu@example.com"), new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"),
-                new RiskAppetite("1"), new DisposableIncome("500"), new CurrentPlan("Prudential PRUwealth"),
-                new LastMet("24-01-2021"),
+                new Email("berniceyu@example.com"), Address.of("Blk 30 Lorong 3 Serangoon Gardens, #07-18"),
+                RiskAppetite.of("1"), DisposableIncome.of("500"), CurrentPlan.of("Prudential PRUwealth"),
+                LastMet.of("24-01-2021"),
                 new NextMeeting("25-12-2021", "08:00", "09:00", "Starbucks @ UTown", "Bernice Yu"),
                 getTagSet(addressBook, "colleagues", "friends")),
             new Client(new ClientId("2"), new Name("Charlotte Oliveiro"), new Phone("93210283"),
-                new Email("charlotte@example.com"), new Address("Blk 11 Ang Mo Kio Street 74, #11-04"),
-                new RiskAppetite("1"), new DisposableIncome("500"), new CurrentPlan("Prudential PRUwealth"),
-                new LastMet("24-01-2021"),
+                new Email("charlotte@example.com"), Address.of("Blk 11 Ang Mo Kio Street 74, #11-04"),
+                RiskAppetite.of("1"), DisposableIncome.of("500"), CurrentPlan.of("Prudential PRUwealth"),
+                LastMet.of("24-01-2021"),
                 new NextMeeting("25-12-2021", "08:00", "09:00", "Starbucks @ UTown", "Charlotte Oliveiro"),
                 getTagSet(addressBook, "neighbours")),
             new Client(new ClientId("3"), new Name("David Li"), new Phone("91031282"),
-                new Email("lidavid@example.com"), new Address("Blk 436 Serangoon Gardens Street 26, #16-43"),
-                new RiskAppetite("1"), new DisposableIncome("500"), new CurrentPlan("Prudential PRUwealth"),
-                new LastMet("24-01-2021"),
+                new Email("lidavid@example.com"), Address.of("Blk 436 Serangoon Gardens Street 26, #16-43"),
+                RiskAppetite.of("1"), DisposableIncome.of("500"), CurrentPlan.of("Prudential PRUwealth"),
+                LastMet.of("24-01-2021"),
                 new NextMeeting("25-12-2021", "08:00", "09:00", "Starbucks @ UTown", "David Li"),
                 getTagSet(addressBook, "family")),
             new Client(new ClientId("4"), new Name("Irfan Ibrahim"), new Phone("92492021"),
-                new Email("irfan@example.com"), new Address("Blk 47 Tampines Street 20, #17-35"),
-                new RiskAppetite("1"), new DisposableIncome("500"), new CurrentPlan("Prudential PRUwealth"),
-                new LastMet("24-01-2021"),
+                new Email("irfan@example.com"), Address.of("Blk 47 Tampines Street 20, #17-35"),
+                RiskAppetite.of("1"), DisposableIncome.of("500"), CurrentPlan.of("Prudential PRUwealth"),
+                LastMet.of("24-01-2021"),
                 new NextMeeting("25-12-2021", "08:00", "09:00", "Starbucks @ UTown", "Irfan Ibrahim"),
                 getTagSet(addressBook, "classmates")),
             new Client(new ClientId("5"), new Name("Roy Balakrishnan"), new Phone("92624417"),
-                new Email("royb@example.com"), new Address("Blk 45 Aljunied Street 85, #11-31"),
-                new RiskAppetite("1"),
-                new DisposableIncome("500"), new CurrentPlan("Prudential PRUwealth"),
-                new LastMet("24-01-2021"),
+                new Email("royb@example.com"), Address.of("Blk 45 Aljunied Street 85, #11-31"),
+                RiskAppetite.of("1"),
+                DisposableIncome.of("500"), CurrentPlan.of("Prudential PRUwealth"),
+                LastMet.of("24-01-2021"),
                 new NextMeeting("25-12-2021", "08:00", "09:00", "Starbucks @ UTown", "Roy Balakrishnan"),
                 getTagSet(addressBook, "colleagues"))
         };
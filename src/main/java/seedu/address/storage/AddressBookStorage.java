@@ -43,4 +43,22 @@ public interface AddressBookStorage {
      * @see #saveAddressBook(ReadOnlyAddressBook)
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
+
+    /**
+     * Records the save of the given {@link ReadOnlyAddressBook} to the storage, to be written by
+     * {@link #writeRecordedSaves()}.
+     * Everything the save needs from {@code addressBook} is read by this call, which must be made on the thread that
+     * changes {@code addressBook}.
+     *
+     * @param addressBook cannot be null.
+     */
+    void recordSave(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Writes the saves recorded since the last write, as a single write where possible. Can be called on any thread,
+     * as it only reads what the saves recorded.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void writeRecordedSaves() throws IOException;
 }
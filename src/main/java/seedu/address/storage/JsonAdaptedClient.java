@@ -155,7 +155,7 @@ class JsonAdaptedClient {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     CurrentPlan.class.getSimpleName()));
         }
-        final CurrentPlan modelCurrentPlan = new CurrentPlan(currentPlan);
+        final CurrentPlan modelCurrentPlan = CurrentPlan.of(currentPlan);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
@@ -175,7 +175,7 @@ class JsonAdaptedClient {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
 
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = Address.of(address);
 
         if (riskAppetite == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -186,7 +186,7 @@ class JsonAdaptedClient {
             throw new IllegalValueException(RiskAppetite.MESSAGE_CONSTRAINTS);
         }
 
-        final RiskAppetite modelRiskAppetite = new RiskAppetite(riskAppetite);
+        final RiskAppetite modelRiskAppetite = RiskAppetite.of(riskAppetite);
 
         if (disposableIncome == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -197,7 +197,7 @@ class JsonAdaptedClient {
             throw new IllegalValueException(DisposableIncome.MESSAGE_CONSTRAINTS);
         }
 
-        final DisposableIncome modelDisposableIncome = new DisposableIncome(disposableIncome);
+        final DisposableIncome modelDisposableIncome = DisposableIncome.of(disposableIncome);
 
         final Set<Tag> modelTags = new HashSet<>(clientTags);
         return new Client(modelClientId, modelName, modelPhone, modelEmail, modelAddress, modelRiskAppetite,
@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientId;
+
+/**
+ * Jackson-friendly version of a change to the clients of an address book, as recorded in the journal of an address
+ * book file. A change removes the clients with the {@code removed} ids, then puts the {@code put} clients, each
+ * replacing the client with the same id in place, or added at the end if there is none.
+ * <p>
+ * Applying a change again has no further effect, so the journal can be replayed over a file that already has some of
+ * its changes.
+ */
+class JsonAdaptedClientChange {
+
+    private final List<String> removed = new ArrayList<>();
+    private final List<JsonAdaptedClient> put = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedClientChange} with the given ids and clients.
+     */
+    @JsonCreator
+    public JsonAdaptedClientChange(@JsonProperty("removed") List<String> removed,
+                                   @JsonProperty("put") List<JsonAdaptedClient> put) {
+        if (removed != null) {
+            this.removed.addAll(removed);
+        }
+        if (put != null) {
+            this.put.addAll(put);
+        }
+    }
+
+    /**
+     * Creates a change removing {@code removedClients}, then putting {@code putClients}.
+     */
+    public static JsonAdaptedClientChange of(List<? extends Client> removedClients,
+                                             List<? extends Client> putClients) {
+        return new JsonAdaptedClientChange(
+                removedClients.stream().map(client -> client.getClientId().value).collect(Collectors.toList()),
+                putClients.stream().map(JsonAdaptedClient::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Applies this change to {@code clients}, which maps the id of every client to the client in the order of the
+     * clients, such as a {@code LinkedHashMap}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the change.
+     */
+    public void applyTo(Map<ClientId, Client> clients) throws IllegalValueException {
+        for (String clientId : removed) {
+            clients.remove(ParserUtil.parseClientId(clientId));
+        }
+        for (JsonAdaptedClient jsonAdaptedClient : put) {
+            Client client = jsonAdaptedClient.toModelType();
+            clients.put(client.getClientId(), client);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLIENT;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientId;
+
+/**
+ * The journal of an address book file, kept beside the file, holding the changes to the clients saved since the file
+ * was last written. The changes of each save are appended as a single line of compact JSON and forced to the disk.
+ * <p>
+ * Every line holds the generation of the file its changes were saved after, and only the lines of the generation of
+ * the file are replayed over it. Rewriting the file with the clients of the address book gives it a new generation,
+ * so a journal left behind when the app stops before clearing it is not replayed over the newer file.
+ * <p>
+ * To compact the journal, it is first renamed to the compacting journal, so that the changes saved while the file is
+ * rewritten go to a new journal. The file is rewritten in the same generation, as replaying the changes in the
+ * compacting journal again has no further effect, and the compacting journal is deleted once the file has all of its
+ * changes.
+ */
+class JsonAddressBookJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookJournal.class);
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String COMPACTING_SUFFIX = ".compacting";
+
+    private static final AtomicLong lastGeneration = new AtomicLong();
+
+    private final Path journalPath;
+    private final Path compactingJournalPath;
+
+    /**
+     * Creates the journal of the address book file at {@code addressBookFilePath}.
+     */
+    public JsonAddressBookJournal(Path addressBookFilePath) {
+        journalPath = addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + JOURNAL_SUFFIX);
+        compactingJournalPath = journalPath.resolveSibling(journalPath.getFileName() + COMPACTING_SUFFIX);
+    }
+
+    public Path getJournalPath() {
+        return journalPath;
+    }
+
+    public Path getCompactingJournalPath() {
+        return compactingJournalPath;
+    }
+
+    /**
+     * Returns a new generation for an address book file being rewritten, different from the generation of the file
+     * before. Generations are the time they are created at in milliseconds, so they also differ from the generations
+     * of earlier runs of the app, and are increased if needed to be unique within a run.
+     */
+    public static long newGeneration() {
+        return lastGeneration.updateAndGet(last -> Math.max(System.currentTimeMillis(), last + 1));
+    }
+
+    /**
+     * Appends {@code changes}, saved after the file of {@code generation}, to the journal as a single line, and forces
+     * them to the disk before returning.
+     *
+     * @throws IOException if the changes cannot be appended, in which case only part of the line may be in the journal.
+     */
+    public void append(long generation, List<JsonAdaptedClientChange> changes) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(line, false)) {
+            generator.writeObject(new JsonAdaptedSave(generation, changes));
+        }
+        line.write('\n');
+        FileUtil.appendToFileDurably(journalPath, line.toByteArray());
+    }
+
+    /**
+     * Returns the size of the journal in bytes, which is 0 if there is no journal.
+     */
+    public long size() throws IOException {
+        return Files.exists(journalPath) ? Files.size(journalPath) : 0;
+    }
+
+    /**
+     * Renames the journal to the compacting journal, so that changes appended after go to a new journal.
+     *
+     * @throws IOException if the journal cannot be renamed, such as when the compacting journal already exists.
+     */
+    public void startCompaction() throws IOException {
+        Files.move(journalPath, compactingJournalPath, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Deletes the compacting journal, once the address book file has all of its changes.
+     */
+    public void finishCompaction() throws IOException {
+        Files.deleteIfExists(compactingJournalPath);
+    }
+
+    /**
+     * Deletes the compacting journal and the journal, once the address book file has all of their changes.
+     */
+    public void clear() throws IOException {
+        Files.deleteIfExists(compactingJournalPath);
+        Files.deleteIfExists(journalPath);
+    }
+
+    /**
+     * Returns {@code addressBook}, as read from the address book file of {@code generation}, with the changes in the
+     * compacting journal and then in the journal saved after the file of that generation applied to it.
+     * A last line that cannot be read is ignored, as the app stopped before that save was complete.
+     *
+     * @throws IOException if a journal cannot be read or has a malformed line before its last line.
+     * @throws IllegalValueException if there were any data constraints violated in the changes.
+     */
+    public ReadOnlyAddressBook replayOver(ReadOnlyAddressBook addressBook, long generation)
+            throws IOException, IllegalValueException {
+        List<JsonAdaptedClientChange> changes = new ArrayList<>();
+        readChanges(compactingJournalPath, generation, changes);
+        readChanges(journalPath, generation, changes);
+        if (changes.isEmpty()) {
+            return addressBook;
+        }
+
+        Map<ClientId, Client> clients = new LinkedHashMap<>();
+        for (Client client : addressBook.getClientList()) {
+            clients.put(client.getClientId(), client);
+        }
+        for (JsonAdaptedClientChange change : changes) {
+            change.applyTo(clients);
+        }
+
+        AddressBook replayedAddressBook = new AddressBook();
+        long highestClientId = -1;
+        for (Client client : clients.values()) {
+            if (replayedAddressBook.hasClient(client)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
+            }
+            replayedAddressBook.addClient(client);
+            highestClientId = Math.max(highestClientId, client.getClientId().id);
+        }
+        replayedAddressBook.setClientCounter(String.valueOf(highestClientId + 1));
+        logger.info("Replayed " + changes.size() + " client changes from the journal " + journalPath);
+
+        return replayedAddressBook;
+    }
+
+    private static void readChanges(Path path, long generation, List<JsonAdaptedClientChange> changes)
+            throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        int staleSaveCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                try {
+                    JsonAdaptedSave save = JsonUtil.fromJsonString(line, JsonAdaptedSave.class);
+                    if (save.generation == generation) {
+                        changes.addAll(save.changes);
+                    } else {
+                        staleSaveCount++;
+                    }
+                } catch (JsonProcessingException e) {
+                    if (nextLine != null) {
+                        throw e;
+                    }
+                    logger.warning("Ignoring the incomplete last save in the journal " + path + ": " + e);
+                }
+                line = nextLine;
+            }
+        }
+        if (staleSaveCount > 0) {
+            logger.warning("Ignoring " + staleSaveCount + " saves in the journal " + path
+                    + " made before the address book file was rewritten");
+        }
+    }
+
+    /**
+     * Jackson-friendly version of a line of the journal: the changes of a save, and the generation of the file they
+     * were saved after.
+     */
+    private static class JsonAdaptedSave {
+        private final long generation;
+        private final List<JsonAdaptedClientChange> changes = new ArrayList<>();
+
+        @JsonCreator
+        private JsonAdaptedSave(@JsonProperty("generation") long generation,
+                                @JsonProperty("changes") List<JsonAdaptedClientChange> changes) {
+            this.generation = generation;
+            if (changes != null) {
+                this.changes.addAll(changes);
+            }
+        }
+    }
+}
@@ -3,28 +3,110 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.WeakListChangeListener;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * <p>
+ * The first save of an address book writes the whole file. Later saves of the same address book only append the
+ * changes to its clients since the last save to the journal of the file, see {@link JsonAddressBookJournal}. Once the
+ * journal grows past the compaction threshold, the next save rewrites the file with its changes on a background thread.
+ * Reading the file replays its journal over it.
+ * <p>
+ * The changes to the clients are recorded as they are made, on the thread changing the address book. A save is
+ * recorded on that thread too, and can then be written on another thread, which only reads what was recorded.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** The size in bytes of the journal past which the file is rewritten with the changes in the journal. */
+    public static final long DEFAULT_JOURNAL_COMPACTION_THRESHOLD = 1 << 20;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    /** Rewrites address book files with the changes in their journals, one file at a time. */
+    private static final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Address book compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final long journalCompactionThreshold;
+    private final JsonAddressBookJournal journal;
+
+    private final ListChangeListener<Client> clientChangeRecorder = this::recordClientChanges;
+    // the address book does not keep a storage it has been switched away from alive
+    private final ListChangeListener<Client> weakClientChangeRecorder =
+            new WeakListChangeListener<>(clientChangeRecorder);
+    // only used on the thread changing the address book, which records the saves
+    /** The address book whose changes are saved to the journal, once a save of it is recorded. */
+    private ReadOnlyAddressBook journaledAddressBook;
+    /** The changes to the journaled address book since the last save was recorded. */
+    private final List<JsonAdaptedClientChange> unsavedChanges = new ArrayList<>();
+
+    /** The saves recorded and not yet written, guarded by this storage. */
+    private RecordedSave recordedSave = new RecordedSave();
+    /** Whether the changes since the file was written cannot be journaled, so the next save writes the file. */
+    private volatile boolean isFileRewriteNeeded;
+    /** Whether the journal has grown past the compaction threshold, so the next save takes clients to compact with. */
+    private volatile boolean isCompactionNeeded;
+
+    // only used by the writes of the saves, one at a time
+    /** The generation of the file as last rewritten, which the changes appended to the journal are saved after. */
+    private volatile long fileGeneration;
+    /** Whether the journal may end with part of a save, so nothing may be appended until the file is rewritten. */
+    private volatile boolean isJournalIncomplete;
+    private volatile Future<?> compaction = CompletableFuture.completedFuture(null);
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether the JSON data saved is indented to be read by the user, or compact.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, DEFAULT_JOURNAL_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}, which is rewritten once its journal
+     * grows past {@code journalCompactionThreshold} bytes.
+     *
+     * @param isPrettyPrinted whether the JSON data saved is indented to be read by the user, or compact.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, long journalCompactionThreshold) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.journalCompactionThreshold = journalCompactionThreshold;
+        this.journal = new JsonAddressBookJournal(filePath);
     }
 
     @Override
@@ -47,14 +129,21 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (jsonAddressBook.isEmpty()) {
+        awaitCompactions();
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        // the clients are streamed from the file rather than read into memory in full first
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            long[] generation = new long[1];
+            ReadOnlyAddressBook addressBook = JsonSerializableAddressBook.readModelType(parser,
+                    fileGeneration -> generation[0] = fileGeneration);
+            return Optional.of(new JsonAddressBookJournal(filePath).replayOver(addressBook, generation[0]));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -68,6 +157,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the changes since the last save are appended to the journal when saving the same address book to the file
+     * of this storage again.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -76,7 +167,232 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        if (!filePath.equals(this.filePath)) {
+            writeAddressBook(addressBook.getClientList(), JsonAddressBookJournal.newGeneration(), filePath);
+            new JsonAddressBookJournal(filePath).clear();
+        } else {
+            recordSave(addressBook);
+            writeRecordedSaves();
+        }
+    }
+
+    /**
+     * Records the save of {@code addressBook} to the file of this storage.
+     * The save of the address book last saved only takes the changes to its clients recorded since. Any other address
+     * book, or one whose changes cannot be journaled, has its clients copied to rewrite the file with.
+     */
+    @Override
+    public void recordSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook != journaledAddressBook || isFileRewriteNeeded) {
+            journalChangesTo(addressBook);
+            List<Client> clients = List.copyOf(addressBook.getClientList());
+            isFileRewriteNeeded = false;
+            isCompactionNeeded = false;
+            synchronized (this) {
+                recordedSave = new RecordedSave();
+                recordedSave.fileClients = clients;
+            }
+            return;
+        }
+
+        // the clients are only copied once the journal is large enough to be compacted
+        List<Client> compactionClients = isCompactionNeeded ? List.copyOf(addressBook.getClientList()) : null;
+        isCompactionNeeded = false;
+        synchronized (this) {
+            recordedSave.changes.addAll(unsavedChanges);
+            if (compactionClients != null) {
+                recordedSave.compactionClients = compactionClients;
+                recordedSave.compactionChangeCount = recordedSave.changes.size();
+            }
+        }
+        unsavedChanges.clear();
+    }
+
+    /**
+     * Writes the saves recorded since the last write: the file if it is to be rewritten, then the changes recorded
+     * after, appended to the journal as a single line.
+     */
+    @Override
+    public void writeRecordedSaves() throws IOException {
+        RecordedSave save;
+        synchronized (this) {
+            save = recordedSave;
+            recordedSave = new RecordedSave();
+        }
+
+        if (save.fileClients != null) {
+            // a compaction finishing after this would overwrite the file with older clients
+            awaitCompaction();
+            try {
+                // the journal is cleared after the file is replaced, so the file has a new generation to tell that the
+                // journal left behind if the app stops in between is older than the file
+                long generation = JsonAddressBookJournal.newGeneration();
+                writeAddressBook(save.fileClients, generation, filePath);
+                fileGeneration = generation;
+                journal.clear();
+            } catch (IOException e) {
+                isFileRewriteNeeded = true;
+                throw e;
+            }
+            isJournalIncomplete = false;
+        }
+
+        if (save.compactionClients == null) {
+            appendToJournal(save.changes);
+            return;
+        }
+        // the clients to compact with have every change before them, but none after
+        appendToJournal(save.changes.subList(0, save.compactionChangeCount));
+        startCompaction(save.compactionClients);
+        appendToJournal(save.changes.subList(save.compactionChangeCount, save.changes.size()));
+    }
+
+    /**
+     * Saves the changes to {@code addressBook} from now on to the journal, instead of the changes to the address book
+     * saved before.
+     */
+    private void journalChangesTo(ReadOnlyAddressBook addressBook) {
+        if (journaledAddressBook != null) {
+            journaledAddressBook.getClientList().removeListener(weakClientChangeRecorder);
+        }
+        unsavedChanges.clear();
+        journaledAddressBook = addressBook;
+        addressBook.getClientList().addListener(weakClientChangeRecorder);
+    }
+
+    private void appendToJournal(List<JsonAdaptedClientChange> changes) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (isJournalIncomplete) {
+            throw new IOException("The journal of " + filePath + " is incomplete until the file is rewritten");
+        }
+
+        try {
+            journal.append(fileGeneration, changes);
+        } catch (IOException e) {
+            // the journal may end with part of the changes, so nothing more can be appended to it
+            isJournalIncomplete = true;
+            isFileRewriteNeeded = true;
+            throw e;
+        }
+
+        if (journal.size() > journalCompactionThreshold && compaction.isDone()) {
+            isCompactionNeeded = true;
+        }
+    }
+
+    /**
+     * Rewrites the file with {@code clients} on a background thread.
+     * The changes are already in the journal, so the save succeeds even if the compaction fails.
+     */
+    private void startCompaction(List<Client> clients) {
+        if (!compaction.isDone()) {
+            isCompactionNeeded = true;
+            return;
+        }
+
+        try {
+            journal.startCompaction();
+        } catch (IOException e) {
+            logger.warning("Error compacting the journal of " + filePath + ": " + e);
+            isFileRewriteNeeded = true;
+            return;
+        }
+
+        long generation = fileGeneration;
+        compaction = compactor.submit(() -> {
+            try {
+                writeAddressBook(clients, generation, filePath);
+                journal.finishCompaction();
+                logger.info("Compacted the journal of " + filePath);
+            } catch (IOException e) {
+                logger.warning("Error compacting the journal of " + filePath + ": " + e);
+                isFileRewriteNeeded = true;
+            }
+        });
+    }
+
+    private void awaitCompaction() {
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Error compacting the journal of " + filePath + ": " + e.getCause());
+            isFileRewriteNeeded = true;
+        }
+    }
+
+    /**
+     * Waits for the compactions of every address book file started before, so that none is rewritten while read.
+     */
+    private static void awaitCompactions() {
+        try {
+            compactor.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail", e);
+        }
+    }
+
+    /**
+     * Writes {@code clients} to the file at {@code filePath} as the file of {@code generation}, replacing the file in
+     * one step.
+     */
+    private void writeAddressBook(List<Client> clients, long generation, Path filePath) throws IOException {
+        // the clients are streamed to a temporary file, which then replaces the file in one step
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+                JsonSerializableAddressBook.writeAddressBook(clients, generation, generator);
+            }
+        });
+    }
+
+    /**
+     * Records the changes to the clients of the journaled address book, to be appended to the journal at the next
+     * save. A change the journal cannot replay in the same order makes the next save rewrite the file instead.
+     */
+    private void recordClientChanges(ListChangeListener.Change<? extends Client> change) {
+        while (change.next()) {
+            List<? extends Client> removed = change.getRemoved();
+            List<? extends Client> added = change.getAddedSubList();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                isFileRewriteNeeded = true;
+            } else if (!added.isEmpty() && haveSameClientIds(removed, added)) {
+                // edited clients are put in place of the clients they replace
+                unsavedChanges.add(JsonAdaptedClientChange.of(List.of(), added));
+            } else if (added.isEmpty() || change.getTo() == change.getList().size()) {
+                // new clients are put at the end of the list
+                unsavedChanges.add(JsonAdaptedClientChange.of(removed, added));
+            } else {
+                isFileRewriteNeeded = true;
+            }
+        }
+    }
+
+    private static boolean haveSameClientIds(List<? extends Client> clients, List<? extends Client> otherClients) {
+        if (clients.size() != otherClients.size()) {
+            return false;
+        }
+        for (int i = 0; i < clients.size(); i++) {
+            if (!clients.get(i).getClientId().equals(otherClients.get(i).getClientId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The saves recorded and not yet written: the clients to rewrite the file with, if any, the changes to append to
+     * the journal after, and the clients to compact the journal with once the changes before them are appended.
+     */
+    private static class RecordedSave {
+        private List<Client> fileClients;
+        private final List<JsonAdaptedClientChange> changes = new ArrayList<>();
+        private List<Client> compactionClients;
+        private int compactionChangeCount;
     }
 }
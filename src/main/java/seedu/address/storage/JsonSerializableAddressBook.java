@@ -1,13 +1,20 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
@@ -17,32 +24,127 @@ import seedu.address.model.tag.Tag;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * The generation of the file it is written to tells which lines of the journal of the file apply to it, see
+ * {@link JsonAddressBookJournal}. A file written without a generation has generation 0.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_CLIENT = "Clients list contains duplicate client(s).";
+    public static final String MESSAGE_NOT_ADDRESS_BOOK = "Address book should be an object with a list of clients.";
 
+    private static final String GENERATION_FIELD = "generation";
+    private static final String CLIENTS_FIELD = "clients";
+
+    private final long generation;
     private final List<JsonAdaptedClient> clients = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given clients.
+     * Constructs a {@code JsonSerializableAddressBook} with the given generation and clients.
      * Gets the biggest ClientId from the clients and use that to initialise the clientCounter.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("clients") List<JsonAdaptedClient> clients) {
+    public JsonSerializableAddressBook(@JsonProperty(GENERATION_FIELD) long generation,
+                                       @JsonProperty(CLIENTS_FIELD) List<JsonAdaptedClient> clients) {
+        this.generation = generation;
         this.clients.addAll(clients);
     }
 
     /**
-     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use.
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use, with generation 0.
      *
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        this(source, 0);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} of the given generation into this class for Jackson use.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, long generation) {
+        this.generation = generation;
         clients.addAll(source.getClientList().stream().map(JsonAdaptedClient::new).collect(Collectors.toList()));
     }
 
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Reads an address book in the JSON format of this class from {@code parser} into the model's
+     * {@code AddressBook} object. Each client is converted and added as soon as it is read, so the clients are never
+     * all held in their Jackson-friendly form at once.
+     *
+     * @throws IOException if the JSON data is malformed or not in the format of this class.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        return readModelType(parser, generation -> {});
+    }
+
+    /**
+     * Similar to {@link #readModelType(JsonParser)}, also passing the generation read to {@code generationReader}.
+     */
+    public static AddressBook readModelType(JsonParser parser, LongConsumer generationReader)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_ADDRESS_BOOK);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        long highestClientId = -1;
+        long generation = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (fieldName.equals(GENERATION_FIELD) && value == JsonToken.VALUE_NUMBER_INT) {
+                generation = parser.getLongValue();
+                continue;
+            }
+            if (!fieldName.equals(CLIENTS_FIELD)) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, MESSAGE_NOT_ADDRESS_BOOK);
+            }
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                Client client = parser.readValueAs(JsonAdaptedClient.class).toModelType();
+                if (addressBook.hasClient(client)) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
+                }
+                // the tags of the client are added to the address book along with the client
+                addressBook.addClient(client);
+                highestClientId = Math.max(highestClientId, client.getClientId().id);
+            }
+        }
+        addressBook.setClientCounter(String.valueOf(highestClientId + 1));
+        generationReader.accept(generation);
+
+        return addressBook;
+    }
+
+    /**
+     * Writes an address book of {@code generation} with {@code clients} to {@code generator} in the JSON format of
+     * this class. Each client is converted and written as soon as it is reached, so the clients are never all held in
+     * their Jackson-friendly form at once.
+     */
+    public static void writeAddressBook(List<Client> clients, long generation, JsonGenerator generator)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField(GENERATION_FIELD, generation);
+        generator.writeArrayFieldStart(CLIENTS_FIELD);
+        for (Client client : clients) {
+            generator.writeObject(new JsonAdaptedClient(client));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
@@ -50,16 +152,17 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        HashSet<Tag> addedTags = new HashSet<>();
+        List<Client> modelClients = new ArrayList<>();
+        Set<Tag> tags = new LinkedHashSet<>();
         for (JsonAdaptedClient jsonAdaptedClient : clients) {
             Client client = jsonAdaptedClient.toModelType();
-            for (Tag tag : client.getTags()) {
-                if (addedTags.contains(tag)) {
-                    continue;
-                }
-                addressBook.addTag(tag);
-                addedTags.add(tag);
-            }
+            modelClients.add(client);
+            tags.addAll(client.getTags());
+        }
+
+        // the tags are added as a single change before the clients referencing them
+        addressBook.addTags(tags);
+        for (Client client : modelClients) {
             if (addressBook.hasClient(client)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
             }
@@ -68,10 +171,9 @@ class JsonSerializableAddressBook {
         if (clients.size() == 0) {
             addressBook.setClientCounter("0");
         } else {
-            int highestClientId = clients.stream()
-                .map(JsonAdaptedClient::getClientId)
-                .mapToInt(Integer::parseInt)
-                .max().getAsInt();
+            long highestClientId = modelClients.stream()
+                .mapToLong(client -> client.getClientId().id)
+                .max().getAsLong();
             addressBook.setClientCounter(String.valueOf(highestClientId + 1));
         }
 
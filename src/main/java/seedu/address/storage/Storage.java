@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -35,4 +36,14 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
      * @param addressBook the given AddressBook storage to switch to
      */
     void switchAddressBookStorage(AddressBookStorage addressBook);
+
+    /**
+     * Waits until every address book saved in the background is written.
+     */
+    void awaitPendingSaves();
+
+    /**
+     * Sets the handler told of every address book save in the background that fails, on the background thread.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
 }
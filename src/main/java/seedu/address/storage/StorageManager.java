@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -13,20 +14,35 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * With a save delay, the address book is saved in the background rather than before the save returns, see
+ * {@link WriteBehindAddressBookSaver}.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    /** Saves the address book in the background, or null if the address book is saved before the save returns. */
+    private final WriteBehindAddressBookSaver writeBehindSaver;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, 0);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}, which
+     * saves the address book in the background at most {@code saveDelay} milliseconds after each save.
+     *
+     * @param saveDelay 0 to save the address book before each save returns instead.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage, long saveDelay) {
         super();
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.writeBehindSaver = saveDelay > 0 ? new WriteBehindAddressBookSaver(saveDelay) : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -62,24 +78,64 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
+        // the file may be read only once the saves to it are written
+        awaitPendingSaves();
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    /**
+     * Saves {@code addressBook} to the file of the address book storage.
+     * With a save delay, the save is only recorded here, and written in the background instead, with failures told to
+     * the save failure handler rather than thrown.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        if (writeBehindSaver == null) {
+            saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+            return;
+        }
+
+        logger.fine("Saving to data file in the background: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.recordSave(addressBook);
+        writeBehindSaver.save(addressBookStorage);
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
+        // a save in the background written after this would overwrite it
+        awaitPendingSaves();
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void recordSave(ReadOnlyAddressBook addressBook) {
+        addressBookStorage.recordSave(addressBook);
+    }
+
+    @Override
+    public void writeRecordedSaves() throws IOException {
+        addressBookStorage.writeRecordedSaves();
+    }
+
     // ================ multiple AddressBook methods ==============================
 
     @Override
     public void switchAddressBookStorage(AddressBookStorage addressBookStorage) {
         this.addressBookStorage = addressBookStorage;
     }
+
+    @Override
+    public void awaitPendingSaves() {
+        if (writeBehindSaver != null) {
+            writeBehindSaver.flush();
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        if (writeBehindSaver != null) {
+            writeBehindSaver.setSaveFailureHandler(saveFailureHandler);
+        }
+    }
 }
@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Writes the saves recorded by address book storages on a background thread, so that a command changing the address
+ * book does not wait for its save.
+ * A save is written at most the save delay after it is made. The saves made while a write waits are written together,
+ * as a single append of their changes to the journal, so a burst of commands is written once or twice.
+ */
+class WriteBehindAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookSaver.class);
+
+    private final long saveDelay;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Address book writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Consumer<IOException> saveFailureHandler = exception -> {};
+
+    // the storage with saves not yet written and the write scheduled for them, guarded by this saver
+    private AddressBookStorage pendingStorage;
+    private int pendingSaveCount;
+    private ScheduledFuture<?> scheduledWrite;
+
+    /**
+     * Creates a saver writing every save at most {@code saveDelay} milliseconds after it is made.
+     */
+    public WriteBehindAddressBookSaver(long saveDelay) {
+        checkArgument(saveDelay > 0, "Save delay should be positive");
+        this.saveDelay = saveDelay;
+    }
+
+    /**
+     * Sets the handler told of every save that fails to be written, on the background thread.
+     */
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Writes the saves recorded by {@code storage} on the background thread, together with any other saves recorded
+     * by {@code storage} before they are written.
+     *
+     * @param storage has just recorded a save, by {@link AddressBookStorage#recordSave}.
+     */
+    public synchronized void save(AddressBookStorage storage) {
+        requireNonNull(storage);
+        if (pendingStorage != null && pendingStorage != storage) {
+            // the saves to another file are written now, before the saves to this file
+            AddressBookStorage previousStorage = pendingStorage;
+            writer.execute(() -> write(previousStorage));
+            pendingSaveCount = 0;
+        }
+
+        pendingStorage = storage;
+        pendingSaveCount++;
+        if (scheduledWrite == null) {
+            scheduledWrite = writer.schedule(this::writePendingSave, saveDelay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the saves waiting to be written now, and waits until every save made before is written.
+     */
+    public void flush() {
+        synchronized (this) {
+            if (scheduledWrite != null) {
+                scheduledWrite.cancel(false);
+                scheduledWrite = null;
+            }
+        }
+
+        try {
+            writer.submit(this::writePendingSave).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to write the address book in the background: " + e.getCause());
+        }
+    }
+
+    private void writePendingSave() {
+        AddressBookStorage storage;
+        int saveCount;
+        synchronized (this) {
+            storage = pendingStorage;
+            saveCount = pendingSaveCount;
+            pendingStorage = null;
+            pendingSaveCount = 0;
+            scheduledWrite = null;
+        }
+        if (storage == null) {
+            return;
+        }
+
+        logger.info("Writing " + saveCount + " address book saves to " + storage.getAddressBookFilePath());
+        write(storage);
+    }
+
+    private void write(AddressBookStorage storage) {
+        try {
+            storage.writeRecordedSaves();
+        } catch (IOException e) {
+            logger.warning("Failed to write the address book in the background: " + e);
+            saveFailureHandler.accept(e);
+        }
+    }
+}
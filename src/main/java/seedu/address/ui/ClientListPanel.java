@@ -1,7 +1,10 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -18,6 +21,7 @@ public class ClientListPanel extends UiPart<Region> {
     private static final String FXML = "ClientListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(ClientListPanel.class);
     private final CommandBox commandBox;
+    private final ObservableList<Client> clientList;
 
     @FXML
     private ListView<Client> clientListView;
@@ -29,13 +33,32 @@ public class ClientListPanel extends UiPart<Region> {
         super(FXML);
 
         this.commandBox = commandBox;
+        this.clientList = clientList;
 
         clientListView.setItems(clientList);
+        // a preview is out of date once the clients shown change
+        clientList.addListener((ListChangeListener<Client>) change -> clearPreview());
         clientListView.setCellFactory(listView -> new ClientListViewCell());
         clientListView
                 .setPlaceholder((new Label("No clients yet >o<")));
     }
 
+    /**
+     * Shows {@code previewClients} in place of the client list, until the preview is cleared.
+     */
+    public void showPreview(List<Client> previewClients) {
+        clientListView.setItems(FXCollections.observableList(previewClients));
+    }
+
+    /**
+     * Shows the client list again, if a preview is shown.
+     */
+    public void clearPreview() {
+        if (clientListView.getItems() != clientList) {
+            clientListView.setItems(clientList);
+        }
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Client} using a {@code ClientCard}.
      */
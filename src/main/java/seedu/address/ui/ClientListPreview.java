@@ -0,0 +1,104 @@
+package seedu.address.ui;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.util.Duration;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientPreviewQuery;
+
+/**
+ * Previews in a {@code ClientListPanel} the clients a command would show, as the command is typed.
+ * Once typing pauses, the clients are found on a background thread, so typing never waits for them. A query is
+ * cancelled as soon as the command changes, and its clients are shown only once every client is tested, and only if
+ * the address book has not changed since.
+ */
+public class ClientListPreview {
+    private static final Duration TYPING_PAUSE = Duration.millis(200);
+
+    private final Logger logger = LogsCenter.getLogger(ClientListPreview.class);
+    private final Function<String, Optional<ClientPreviewQuery>> previewer;
+    private final ClientListPanel clientListPanel;
+    private final PauseTransition typingPause = new PauseTransition(TYPING_PAUSE);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Client list preview");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private String commandText = "";
+    private ClientPreviewQuery runningQuery;
+    private Future<?> runningTask;
+
+    /**
+     * Creates a {@code ClientListPreview} showing in {@code clientListPanel} the clients found by the queries of
+     * {@code previewer}.
+     *
+     * @param previewer returns the query previewing a command, as {@link seedu.address.logic.Logic#preview(String)}.
+     */
+    public ClientListPreview(Function<String, Optional<ClientPreviewQuery>> previewer,
+            ClientListPanel clientListPanel) {
+        this.previewer = previewer;
+        this.clientListPanel = clientListPanel;
+        typingPause.setOnFinished(event -> startQuery());
+    }
+
+    /**
+     * Previews {@code commandText} once typing pauses, cancelling any preview of the command typed before.
+     * An empty command clears the preview at once.
+     */
+    public void update(String commandText) {
+        this.commandText = commandText;
+        cancelQuery();
+        if (commandText.isBlank()) {
+            typingPause.stop();
+            clientListPanel.clearPreview();
+            return;
+        }
+        typingPause.playFromStart();
+    }
+
+    private void startQuery() {
+        Optional<ClientPreviewQuery> query = previewer.apply(commandText);
+        if (query.isEmpty()) {
+            clientListPanel.clearPreview();
+            return;
+        }
+
+        String previewedText = commandText;
+        ClientPreviewQuery previewQuery = query.get();
+        runningQuery = previewQuery;
+        runningTask = executor.submit(() -> {
+            try {
+                List<Client> previewClients = previewQuery.call();
+                Platform.runLater(() -> showPreview(previewQuery, previewClients));
+            } catch (InterruptedException e) {
+                logger.fine("Preview cancelled: " + previewedText);
+            }
+        });
+    }
+
+    private void showPreview(ClientPreviewQuery previewQuery, List<Client> previewClients) {
+        if (previewQuery != runningQuery || previewQuery.isStale()) {
+            return;
+        }
+        runningQuery = null;
+        clientListPanel.showPreview(previewClients);
+    }
+
+    private void cancelQuery() {
+        runningQuery = null;
+        if (runningTask != null) {
+            runningTask.cancel(true);
+            runningTask = null;
+        }
+    }
+}
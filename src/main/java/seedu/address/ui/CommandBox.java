@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.function.Consumer;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
@@ -57,6 +59,13 @@ public class CommandBox extends UiPart<Region> {
         commandTextField.requestFocus();
     }
 
+    /**
+     * Calls {@code listener} with the command text whenever it changes.
+     */
+    public void addCommandTextListener(Consumer<String> listener) {
+        commandTextField.textProperty().addListener((unused1, unused2, commandText) -> listener.accept(commandText));
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -143,8 +144,12 @@ public class MainWindow extends UiPart<Stage> {
         clientListPanel = new ClientListPanel(logic.getFilteredClientList(), commandBox);
         clientListPanelPlaceholder.getChildren().add(clientListPanel.getRoot());
 
+        ClientListPreview clientListPreview = new ClientListPreview(logic::preview, clientListPanel);
+        commandBox.addCommandTextListener(clientListPreview::update);
+
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePathObject());
         statusBarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ListChangeListener;
@@ -40,19 +42,28 @@ public class TagsPanel extends UiPart<Region> {
                 });
 
         tagList.addListener((ListChangeListener<Tag>) change -> {
+            // the labels of a change are removed and added together so the pane is laid out once per change
+            List<Region> removedLabels = new ArrayList<>();
+            List<Region> addedLabels = new ArrayList<>();
             while (change.next()) {
                 for (Tag tag: change.getRemoved()) {
                     logger.fine(tag.getName() + "was removed from the tag list!");
-                    tags.getChildren().remove(tagLabels.remove(tag));
+                    Region removedLabel = tagLabels.remove(tag);
+                    if (removedLabel != null) {
+                        removedLabels.add(removedLabel);
+                    }
                 }
 
                 for (Tag tag: change.getAddedSubList()) {
                     TagLabel tagLabel = new TagLabel(tag.toString(), tag, commandBox);
                     logger.fine(tag.getName() + "was added to the tag list!");
-                    tags.getChildren().add(tagLabel.getRoot());
+                    addedLabels.add(tagLabel.getRoot());
                     tagLabels.put(tag, tagLabel.getRoot());
                 }
             }
+
+            tags.getChildren().removeAll(removedLabels);
+            tags.getChildren().addAll(addedLabels);
         });
     }
 }
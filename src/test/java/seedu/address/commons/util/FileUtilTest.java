@@ -5,12 +5,22 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path temporaryFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -45,4 +55,39 @@ public class FileUtilTest {
         // null path -> throws NullPointerException
         assertThrows(NullPointerException.class, () -> FileUtil.isJsonFile(null));
     }
+
+    @Test
+    public void writeToFileAtomically_newContent_replacesFile() throws Exception {
+        Path file = temporaryFolder.resolve("data").resolve("file.json");
+        FileUtil.writeToFileAtomically(file, out -> out.write("old".getBytes(StandardCharsets.UTF_8)));
+        FileUtil.writeToFileAtomically(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFiles(file.getParent()));
+    }
+
+    @Test
+    public void writeToFileAtomically_writeFails_fileUnchanged() throws Exception {
+        Path file = temporaryFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old");
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException();
+        }));
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFiles(temporaryFolder));
+    }
+
+    @Test
+    public void appendToFileDurably_missingFile_fileCreatedThenAppended() throws Exception {
+        Path file = temporaryFolder.resolve("data").resolve("file.journal");
+        FileUtil.appendToFileDurably(file, "first\n".getBytes(StandardCharsets.UTF_8));
+        FileUtil.appendToFileDurably(file, "second\n".getBytes(StandardCharsets.UTF_8));
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
+
+    private List<Path> listFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
 }
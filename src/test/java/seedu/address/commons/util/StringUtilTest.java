@@ -278,6 +278,34 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsStringIgnoreCase("acadffac", "ac"));
     }
 
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_invalidInputs_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance(null, "a", 1));
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance("a", null, 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.getEditDistance("a", "b", -1));
+    }
+
+    @Test
+    public void getEditDistance_withinMaxDistance_returnsDistance() {
+        assertEquals(0, StringUtil.getEditDistance("", "", 0));
+        assertEquals(0, StringUtil.getEditDistance("alice", "alice", 2));
+        assertEquals(1, StringUtil.getEditDistance("jonathon", "jonathan", 2)); // substitution
+        assertEquals(1, StringUtil.getEditDistance("pauline", "pauine", 2)); // deletion
+        assertEquals(2, StringUtil.getEditDistance("meier", "meyers", 2)); // substitution and insertion
+        assertEquals(2, StringUtil.getEditDistance("ab", "ba", 2)); // transposition takes two edits
+        assertEquals(3, StringUtil.getEditDistance("", "abc", 3));
+    }
+
+    @Test
+    public void getEditDistance_beyondMaxDistance_returnsMaxDistancePlusOne() {
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting", 2));
+        assertEquals(1, StringUtil.getEditDistance("alice", "alicia", 0));
+        assertEquals(2, StringUtil.getEditDistance("a", "abcdef", 1)); // lengths too far apart
+        assertEquals(3, StringUtil.getEditDistance("benson", "carl", 2));
+    }
+
     //---------------- Tests for isValidDate --------------------------------------
 
     /*
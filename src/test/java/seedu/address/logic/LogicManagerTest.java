@@ -16,6 +16,8 @@ import static seedu.address.testutil.TypicalClients.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,13 +31,13 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.client.Client;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.SaveCountingAddressBookStorageStub;
 import seedu.address.ui.ThemeType;
 
 public class LogicManagerTest {
@@ -96,6 +98,61 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_addressBookUnchanged_saveSkipped() throws Exception {
+        SaveCountingAddressBookStorageStub addressBookStorage =
+                new SaveCountingAddressBookStorageStub(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        logic.normalExecute(ListCommand.COMMAND_WORD);
+        logic.normalExecute(ListCommand.COMMAND_WORD);
+        assertEquals(1, addressBookStorage.getSaveCount());
+
+        logic.normalExecute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + RISKAPPETITE_DESC_AMY + DISPOSABLEINCOME_DESC_AMY + CURRENTPLAN_DESC_AMY
+                + LASTMET_DESC_AMY);
+        logic.normalExecute(ListCommand.COMMAND_WORD);
+        assertEquals(2, addressBookStorage.getSaveCount());
+    }
+
+    @Test
+    public void execute_addressBookReadFromFile_saveSkippedUntilChanged() throws Exception {
+        SaveCountingAddressBookStorageStub addressBookStorage =
+                new SaveCountingAddressBookStorageStub(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage), true);
+
+        logic.normalExecute(ListCommand.COMMAND_WORD);
+        assertEquals(0, addressBookStorage.getSaveCount());
+
+        logic.normalExecute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + RISKAPPETITE_DESC_AMY + DISPOSABLEINCOME_DESC_AMY + CURRENTPLAN_DESC_AMY
+                + LASTMET_DESC_AMY);
+        assertEquals(1, addressBookStorage.getSaveCount());
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_failureHandlerToldAndSavedAgain() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, 60000);
+        logic = new LogicManager(model, storage);
+        List<String> failureMessages = new ArrayList<>();
+        logic.setSaveFailureHandler(failureMessages::add);
+
+        logic.normalExecute(ListCommand.COMMAND_WORD);
+        storage.awaitPendingSaves();
+        assertEquals(List.of(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION), failureMessages);
+
+        // the unchanged address book is saved again after the failure
+        logic.normalExecute(ListCommand.COMMAND_WORD);
+        storage.awaitPendingSaves();
+        assertEquals(2, failureMessages.size());
+    }
+
     @Test
     public void getSortedClientList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getSortedNextMeetingList().remove(0));
@@ -203,7 +260,7 @@ public class LogicManagerTest {
     }
 
     /**
-     * A stub class to throw an {@code IOException} when the save method is called.
+     * A stub class to throw an {@code IOException} when the saves are written.
      */
     private static class JsonAddressBookIoExceptionThrowingStub extends JsonAddressBookStorage {
         private JsonAddressBookIoExceptionThrowingStub(Path filePath) {
@@ -211,7 +268,7 @@ public class LogicManagerTest {
         }
 
         @Override
-        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        public void writeRecordedSaves() throws IOException {
             throw DUMMY_IO_EXCEPTION;
         }
     }
@@ -7,9 +7,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -22,10 +23,15 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.client.AttributeRange;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.Client.EditClientDescriptor;
 import seedu.address.model.client.ClientId;
+import seedu.address.model.client.ClientPreviewQuery;
+import seedu.address.model.client.FuzzyQuery;
+import seedu.address.model.client.SortByAttribute;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagExpression;
 import seedu.address.testutil.ClientBuilder;
 import seedu.address.ui.ThemeType;
 
@@ -200,6 +206,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateLastMetDate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<LocalDateTime> getNextMeetingExpiry() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasTagName(String tagName) {
             throw new AssertionError("This method should not be called.");
@@ -226,7 +242,7 @@ public class AddCommandTest {
         }
 
         @Override
-        public void filterSortedNextMeetingList(LocalDate date) {
+        public void filterSortedNextMeetingList(LocalDate startDate, LocalDate endDate) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -235,13 +251,33 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredClientList(Object queryKey, Predicate<Client> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void filterFilteredClientList(Predicate<Client> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void sortFilteredClientList(Comparator<Client> predicate) {
+        public void filterFilteredClientList(Object queryKey, Predicate<Client> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ClientPreviewQuery previewUpdateFilteredClientList(Predicate<Client> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ClientPreviewQuery previewFilterFilteredClientList(Predicate<Client> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredClientList(SortByAttribute sorter) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -261,7 +297,32 @@ public class AddCommandTest {
         }
 
         @Override
-        public List<Client> retrieveSchedule(LocalDate date) {
+        public Predicate<Client> createTagPredicate(TagExpression tagExpression) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Client> createRangePredicate(List<AttributeRange> ranges) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Client> createKeywordPredicate(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Client> getFuzzyMatches(FuzzyQuery query, Predicate<Client> predicate, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rankFilteredClientList(List<Client> rankedClients) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Client> retrieveSchedule(LocalDate startDate, LocalDate endDate) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -6,17 +6,21 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_CLIENTS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISPOSABLEINCOME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RISKAPPETITE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
 import static seedu.address.testutil.TypicalClients.ELLE;
 import static seedu.address.testutil.TypicalClients.FIONA;
 import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -25,6 +29,7 @@ import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Client;
 import seedu.address.model.client.ClientContainsKeywordsPredicate;
 
 public class FilterCommandTest {
@@ -93,9 +98,30 @@ public class FilterCommandTest {
         assertEquals(Arrays.asList(ALICE, ELLE), model.getFilteredClientList());
     }
 
+    @Test
+    public void execute_attributeRanges_clientsInRangesFound() {
+        String expectedMessage = String.format(MESSAGE_CLIENTS_LISTED_OVERVIEW, 3);
+        ClientContainsKeywordsPredicate predicate = preparePredicate(" d/>=200 r/2..4");
+        FilterCommand command = new FilterCommand(predicate);
+        expectedModel.filterFilteredClientList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, FIONA), model.getFilteredClientList());
+    }
+
+    @Test
+    public void preview_shownClients_sameClientsAsExecute() throws Exception {
+        new FilterCommand(preparePredicate(" Pauline Kurz Elle Kunz p/94 e/example.com")).execute(model);
+        FilterCommand command = new FilterCommand(preparePredicate(" a/ave"));
+        List<Client> previewClients = command.preview(model).orElseThrow().call();
+        assertEquals(3, model.getFilteredClientList().size());
+
+        command.execute(model);
+        assertEquals(model.getFilteredClientList(), previewClients);
+    }
+
     private ClientContainsKeywordsPredicate preparePredicate(String s) {
-        ArgumentMultimap aMM = ArgumentTokenizer.tokenize(s,
-                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+        ArgumentMultimap aMM = ArgumentTokenizer.tokenize(s, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+                PREFIX_ADDRESS, PREFIX_RISKAPPETITE, PREFIX_DISPOSABLEINCOME, PREFIX_TAG);
         return new ClientContainsKeywordsPredicate(aMM);
     }
 }
@@ -2,9 +2,12 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
 import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,7 +24,7 @@ public class ScheduleCommandTest {
         String expectedMessage = String.format(ScheduleCommand.MESSAGE_SCHEDULE_SUCCESS, "24 Nov 2022");
         LocalDate scheduleDate = LocalDate.of(2022, 11, 24);
         ScheduleCommand command = new ScheduleCommand(scheduleDate);
-        expectedModel.filterSortedNextMeetingList(scheduleDate);
+        expectedModel.filterSortedNextMeetingList(scheduleDate, scheduleDate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(model.getSortedNextMeetingList(), expectedModel.getSortedNextMeetingList());
     }
@@ -31,7 +34,30 @@ public class ScheduleCommandTest {
         String expectedMessage = String.format(ScheduleCommand.MESSAGE_NO_SCHEDULE_ON_DATE_SUCCESS);
         LocalDate scheduleDate = LocalDate.of(2022, 11, 20);
         ScheduleCommand command = new ScheduleCommand(scheduleDate);
-        expectedModel.filterSortedNextMeetingList(scheduleDate);
+        expectedModel.filterSortedNextMeetingList(scheduleDate, scheduleDate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(model.getSortedNextMeetingList(), expectedModel.getSortedNextMeetingList());
+    }
+
+    @Test
+    public void execute_validDateRange_success() {
+        String expectedMessage = String.format(ScheduleCommand.MESSAGE_SCHEDULE_RANGE_SUCCESS, "20 Nov 2022",
+            "26 Nov 2022");
+        LocalDate startDate = LocalDate.of(2022, 11, 20);
+        LocalDate endDate = LocalDate.of(2022, 11, 26);
+        ScheduleCommand command = new ScheduleCommand(startDate, endDate);
+        expectedModel.filterSortedNextMeetingList(startDate, endDate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(ALICE, BENSON), model.retrieveSchedule(startDate, endDate));
+    }
+
+    @Test
+    public void execute_noMeetingsInRange_success() {
+        String expectedMessage = String.format(ScheduleCommand.MESSAGE_NO_SCHEDULE_IN_RANGE_SUCCESS);
+        LocalDate startDate = LocalDate.of(2023, 1, 1);
+        LocalDate endDate = LocalDate.of(2023, 1, 31);
+        ScheduleCommand command = new ScheduleCommand(startDate, endDate);
+        expectedModel.filterSortedNextMeetingList(startDate, endDate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(model.getSortedNextMeetingList(), expectedModel.getSortedNextMeetingList());
     }
@@ -40,7 +66,7 @@ public class ScheduleCommandTest {
     public void execute_showcaseAllMeetings_success() {
         String expectedMessage = String.format(ScheduleCommand.MESSAGE_SHOW_ALL_MEETINGS_SUCCESS);
         ScheduleCommand command = new ScheduleCommand(null);
-        expectedModel.filterSortedNextMeetingList(null);
+        expectedModel.filterSortedNextMeetingList(null, null);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(model.getSortedNextMeetingList(), expectedModel.getSortedNextMeetingList());
     }
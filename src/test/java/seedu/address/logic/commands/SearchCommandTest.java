@@ -6,15 +6,20 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_CLIENTS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.parser.CliSyntax.ALL_PREFIXES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
 import static seedu.address.testutil.TypicalClients.DANIEL;
 import static seedu.address.testutil.TypicalClients.ELLE;
 import static seedu.address.testutil.TypicalClients.FIONA;
+import static seedu.address.testutil.TypicalClients.GEORGE;
 import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -23,7 +28,9 @@ import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Client;
 import seedu.address.model.client.ClientContainsKeywordsPredicate;
+import seedu.address.model.client.FuzzyQuery;
 
 class SearchCommandTest {
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
@@ -87,6 +94,61 @@ class SearchCommandTest {
         assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredClientList());
     }
 
+    @Test
+    public void execute_everyTagKeyword_clientsMatchingEveryTagKeywordFound() {
+        SearchCommand command = new SearchCommand(preparePredicate("t/friends t/owesMoney"));
+        command.execute(model);
+        assertEquals(List.of(BENSON), model.getFilteredClientList());
+
+        command = new SearchCommand(preparePredicate("t/friends t/-owesMoney"));
+        command.execute(model);
+        assertEquals(List.of(ALICE, DANIEL), model.getFilteredClientList());
+
+        command = new SearchCommand(preparePredicate("t/owesMoney|t/-friends"));
+        command.execute(model);
+        assertEquals(List.of(BENSON, CARL, ELLE, FIONA, GEORGE), model.getFilteredClientList());
+    }
+
+    @Test
+    public void execute_fuzzyKeywords_clientsRankedByCloseness() {
+        String expectedMessage = String.format(MESSAGE_CLIENTS_LISTED_OVERVIEW, 3);
+        SearchCommand command = new SearchCommand(preparePredicate(""), new FuzzyQuery(List.of("meyer"), Map.of()));
+        expectedModel.rankFilteredClientList(List.of(ELLE, BENSON, DANIEL));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredClientList());
+
+        // showing every client again returns the clients to their order
+        model.updateFilteredClientList(Model.PREDICATE_SHOW_ALL_CLIENTS);
+        assertEquals(model.getAddressBook().getClientList(), model.getFilteredClientList());
+    }
+
+    @Test
+    public void execute_fuzzyAndExactKeywords_clientsFound() {
+        String expectedMessage = String.format(MESSAGE_CLIENTS_LISTED_OVERVIEW, 2);
+        SearchCommand command = new SearchCommand(preparePredicate("t/friends"),
+                new FuzzyQuery(List.of(), Map.of(PREFIX_NAME, List.of("meyer"))));
+        expectedModel.rankFilteredClientList(List.of(BENSON, DANIEL));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredClientList());
+    }
+
+    @Test
+    public void preview_exactKeywords_sameClientsAsExecute() throws Exception {
+        SearchCommand command = new SearchCommand(preparePredicate("Kurz Elle Kunz d/>=200"));
+        model.updateFilteredClientList(client -> client.equals(ALICE));
+        List<Client> previewClients = command.preview(model).orElseThrow().call();
+        assertEquals(List.of(ALICE), model.getFilteredClientList());
+
+        command.execute(model);
+        assertEquals(model.getFilteredClientList(), previewClients);
+    }
+
+    @Test
+    public void preview_fuzzyKeywords_notPreviewed() {
+        SearchCommand command = new SearchCommand(preparePredicate(""), new FuzzyQuery(List.of("meyer"), Map.of()));
+        assertTrue(command.preview(model).isEmpty());
+    }
+
     private ClientContainsKeywordsPredicate preparePredicate(String s) {
         ArgumentMultimap aMM = ArgumentTokenizer.tokenize(" " + s, ALL_PREFIXES);
         return new ClientContainsKeywordsPredicate(aMM);
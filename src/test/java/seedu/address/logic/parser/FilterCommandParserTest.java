@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_FIELDS_EMPTY;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.ALL_PREFIXES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
@@ -13,7 +14,9 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.client.AttributeRange;
 import seedu.address.model.client.ClientContainsKeywordsPredicate;
+import seedu.address.model.tag.TagExpression;
 
 public class FilterCommandParserTest {
 
@@ -31,6 +34,37 @@ public class FilterCommandParserTest {
         assertParseFailure(parser, " t/ a/ p/ e/", String.format(MESSAGE_FIELDS_EMPTY, "Tag, Address, Phone, Email"));
     }
 
+    @Test
+    public void parse_invalidTagExpression_throwsParseException() {
+        assertParseFailure(parser, " t/vip&", TagExpression.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/vip retiree", TagExpression.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " -t/", TagExpression.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_tagExpressions_returnsFilterCommand() {
+        FilterCommand expectedFilterCommand =
+                new FilterCommand(new ClientContainsKeywordsPredicate(
+                        ArgumentTokenizer.tokenize(" t/vip&t/retiree t/-inactive", PREFIX_TAG)));
+        assertParseSuccess(parser, "t/vip&t/retiree -t/inactive", expectedFilterCommand);
+    }
+
+    @Test
+    public void parse_invalidAttributeRange_throwsParseException() {
+        assertParseFailure(parser, " d/>=abc", AttributeRange.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " r/2..6", AttributeRange.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " l/<32-01-2021", AttributeRange.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " m/>=", AttributeRange.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_attributeRanges_returnsFilterCommand() {
+        FilterCommand expectedFilterCommand =
+                new FilterCommand(new ClientContainsKeywordsPredicate(
+                        ArgumentTokenizer.tokenize(" d/>=5000 r/2..4 l/<01-01-2021 m/this-week", ALL_PREFIXES)));
+        assertParseSuccess(parser, "d/>=5000 r/2..4 l/<01-01-2021 m/this-week", expectedFilterCommand);
+    }
+
     @Test
     public void parse_validArgs_returnsFilterCommand() {
         // no leading and trailing whitespaces
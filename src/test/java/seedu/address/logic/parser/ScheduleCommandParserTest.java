@@ -20,6 +20,40 @@ class ScheduleCommandParserTest {
         assertParseSuccess(parser, " 10-09-2022", new ScheduleCommand(meetingDate));
     }
 
+    @Test
+    public void parse_validDateRange_returnsScheduleCommand() {
+        LocalDate startDate = LocalDate.of(2022, 1, 1);
+        LocalDate endDate = LocalDate.of(2022, 1, 31);
+        assertParseSuccess(parser, " 01-01-2022 31-01-2022", new ScheduleCommand(startDate, endDate));
+    }
+
+    @Test
+    public void parse_weekView_returnsScheduleCommand() {
+        // 05-01-2022 is a Wednesday
+        assertParseSuccess(parser, " week 05-01-2022",
+                new ScheduleCommand(LocalDate.of(2022, 1, 3), LocalDate.of(2022, 1, 9)));
+    }
+
+    @Test
+    public void parse_monthView_returnsScheduleCommand() {
+        assertParseSuccess(parser, " month 15-02-2024",
+                new ScheduleCommand(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29)));
+    }
+
+    @Test
+    public void parse_endDateBeforeStartDate_throwsParseException() {
+        assertParseFailure(parser, " 31-01-2022 01-01-2022", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ScheduleCommand.MESSAGE_INVALID_DATE_RANGE_FAILURE));
+    }
+
+    @Test
+    public void parse_tooManyDates_throwsParseException() {
+        assertParseFailure(parser, " 01-01-2022 02-01-2022 03-01-2022", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ScheduleCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " week 01-01-2022 02-01-2022", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ScheduleCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         //invalid date format
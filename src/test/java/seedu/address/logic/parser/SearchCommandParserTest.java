@@ -6,14 +6,20 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RISKAPPETITE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.SearchCommand;
 import seedu.address.model.client.ClientContainsKeywordsPredicate;
+import seedu.address.model.client.FuzzyQuery;
+import seedu.address.model.tag.TagExpression;
 
 public class SearchCommandParserTest {
 
@@ -31,6 +37,20 @@ public class SearchCommandParserTest {
         assertParseFailure(parser, " t/ a/ p/ e/", String.format(MESSAGE_FIELDS_EMPTY, "Tag, Address, Phone, Email"));
     }
 
+    @Test
+    public void parse_invalidTagExpression_throwsParseException() {
+        assertParseFailure(parser, " t/vip&", TagExpression.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " alice t/vip retiree", TagExpression.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " -t/", TagExpression.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_tagExpressions_returnsSearchCommand() {
+        SearchCommand expectedSearchCommand = new SearchCommand(new ClientContainsKeywordsPredicate(
+                ArgumentTokenizer.tokenize("alice t/vip&t/retiree t/-inactive", PREFIX_TAG)));
+        assertParseSuccess(parser, "alice t/vip&t/retiree -t/inactive", expectedSearchCommand);
+    }
+
     @Test
     public void parse_validArgs_returnsSearchCommand() {
         // no leading and trailing whitespaces
@@ -44,4 +64,38 @@ public class SearchCommandParserTest {
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t e/example.com a/Blk 30", expectedSearchCommand);
     }
+
+    @Test
+    public void parse_fuzzyKeywords_returnsFuzzySearchCommand() {
+        // general keywords after the flag and attribute keywords ending with ~ are fuzzy
+        SearchCommand expectedSearchCommand = new SearchCommand(
+                new ClientContainsKeywordsPredicate(ArgumentTokenizer.tokenize(" e/example.com t/friends",
+                        PREFIX_EMAIL, PREFIX_TAG)),
+                new FuzzyQuery(List.of("Jonathon", "Smiht"),
+                        Map.of(PREFIX_NAME, List.of("Alise"), PREFIX_ADDRESS, List.of("Clementy"))));
+        assertParseSuccess(parser, "--fuzzy Jonathon Smiht n/Alise~ a/Clementy ~ e/example.com t/friends",
+                expectedSearchCommand);
+
+        // attribute keywords ending with ~ are fuzzy without the flag, and general keywords stay exact
+        expectedSearchCommand = new SearchCommand(
+                new ClientContainsKeywordsPredicate(ArgumentTokenizer.tokenize("alex r/2..4", PREFIX_RISKAPPETITE)),
+                new FuzzyQuery(List.of(), Map.of(PREFIX_NAME, List.of("Jonathon"))));
+        assertParseSuccess(parser, "alex n/Jonathon~ r/2..4", expectedSearchCommand);
+
+        // every fuzzy keyword of the same attribute is kept
+        expectedSearchCommand = new SearchCommand(
+                new ClientContainsKeywordsPredicate(ArgumentTokenizer.tokenize("")),
+                new FuzzyQuery(List.of(), Map.of(PREFIX_NAME, List.of("Jonathon", "Smiht"))));
+        assertParseSuccess(parser, "n/Jonathon~ n/Smiht~", expectedSearchCommand);
+    }
+
+    @Test
+    public void parse_fuzzyWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, "--fuzzy", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SearchCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "--fuzzy e/example.com", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SearchCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "n/@~", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SearchCommand.MESSAGE_USAGE));
+    }
 }
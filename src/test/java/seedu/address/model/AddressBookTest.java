@@ -2,28 +2,37 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISPOSABLEINCOME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RISKAPPETITE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
 import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.client.AttributeRange;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.Client.EditClientDescriptor;
 import seedu.address.model.client.ClientId;
 import seedu.address.model.client.NextMeeting;
 import seedu.address.model.client.exceptions.DuplicateClientException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagExpression;
 import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.EditClientDescriptorBuilder;
 
 public class AddressBookTest {
 
@@ -86,6 +95,72 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getClientList().remove(0));
     }
 
+    @Test
+    public void removeClient_tagStillReferencedByAnotherClient_tagKept() {
+        // ALICE and BENSON hold different Tag objects with the same name
+        addressBook.addClient(ALICE);
+        addressBook.addClient(BENSON);
+        assertEquals(2, addressBook.getTagReferenceCount("friends"));
+
+        addressBook.removeClient(ALICE);
+        assertTrue(addressBook.hasTagName("friends"));
+        assertEquals(1, addressBook.getTagReferenceCount("friends"));
+
+        addressBook.removeClient(BENSON);
+        assertFalse(addressBook.hasTagName("friends"));
+        assertFalse(addressBook.hasTagName("owesMoney"));
+    }
+
+    @Test
+    public void setAllClients_tagsEdited_referenceCountsUpdated() {
+        addressBook.addClient(ALICE);
+        Tag friends = addressBook.getTag("friends");
+
+        // editing a field other than the tags keeps the same tag
+        addressBook.setAllClients(List.of(ALICE.getClientId()),
+            new EditClientDescriptorBuilder().withAddress(VALID_ADDRESS_BOB).build());
+        assertSame(friends, addressBook.getTag("friends"));
+        assertEquals(1, addressBook.getTagReferenceCount("friends"));
+
+        EditClientDescriptor retag = new EditClientDescriptorBuilder().withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setAllClients(List.of(ALICE.getClientId()), retag);
+        assertFalse(addressBook.hasTagName("friends"));
+        assertEquals(1, addressBook.getTagReferenceCount(VALID_TAG_HUSBAND));
+    }
+
+    @Test
+    public void createTagPredicate_clientsChanged_followsChanges() {
+        addressBook.addClient(ALICE);
+        addressBook.addClient(BENSON);
+        Predicate<Client> owesMoney = addressBook.createTagPredicate(new TagExpression(List.of("owesMoney")));
+        assertFalse(owesMoney.test(ALICE));
+        assertTrue(owesMoney.test(BENSON));
+
+        EditClientDescriptor descriptor = new EditClientDescriptorBuilder().withTags("owesMoney").build();
+        Client editedAlice = addressBook.setAllClients(List.of(ALICE.getClientId()), descriptor).get(0);
+        addressBook.removeClient(BENSON);
+        assertTrue(owesMoney.test(editedAlice));
+        assertFalse(owesMoney.test(BENSON));
+    }
+
+    @Test
+    public void createRangePredicate_clientsChanged_followsChanges() {
+        addressBook.addClient(ALICE);
+        addressBook.addClient(BENSON);
+        Predicate<Client> inRanges = addressBook.createRangePredicate(List.of(
+                new AttributeRange(PREFIX_DISPOSABLEINCOME, ">=250"),
+                new AttributeRange(PREFIX_RISKAPPETITE, "3..5")));
+        assertFalse(inRanges.test(ALICE));
+        assertTrue(inRanges.test(BENSON));
+
+        EditClientDescriptor descriptor = new EditClientDescriptorBuilder().withDisposableIncome("1000")
+                .withRiskAppetite("3").build();
+        Client editedAlice = addressBook.setAllClients(List.of(ALICE.getClientId()), descriptor).get(0);
+        addressBook.removeClient(BENSON);
+        assertTrue(inRanges.test(editedAlice));
+        assertFalse(inRanges.test(BENSON));
+    }
+
     @Test
     public void updateLastMetDate_updatesCorrectly() {
         Client expectedAlice = new ClientBuilder(ALICE).withNextMeeting(NextMeeting.NO_NEXT_MEETING).build();
@@ -94,6 +169,35 @@ public class AddressBookTest {
         assertEquals(addressBook.getClient(new ClientId("0")), expectedAlice);
     }
 
+    @Test
+    public void getVersion_clientsChanged_increases() {
+        long version = addressBook.getVersion();
+        addressBook.addClient(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.setAllClients(List.of(ALICE.getClientId()),
+                new EditClientDescriptorBuilder().withName("Al").build());
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.removeAllClients(List.of(ALICE.getClientId()));
+        assertTrue(addressBook.getVersion() > version);
+    }
+
+    @Test
+    public void incrementClientCounter_givesNextClientId() {
+        assertEquals(new ClientId("0"), addressBook.getNextClientId());
+
+        addressBook.setClientCounter("9");
+        addressBook.incrementClientCounter();
+        assertEquals("10", addressBook.getClientCounter());
+        assertEquals(new ClientId("10"), addressBook.getNextClientId());
+
+        addressBook.setClientCounter("invalid");
+        assertEquals("0", addressBook.getClientCounter());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose clients list can violate interface constraints.
      */
@@ -127,6 +231,11 @@ public class AddressBookTest {
             return tags;
         }
 
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
         @Override
         public void incrementClientCounter() {
             try {
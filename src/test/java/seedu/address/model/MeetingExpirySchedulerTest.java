@@ -0,0 +1,148 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.client.Client.EditClientDescriptor;
+import seedu.address.model.client.NextMeeting;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.EditClientDescriptorBuilder;
+
+public class MeetingExpirySchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2099, 1, 1, 10, 0);
+
+    private final TimerStub timer = new TimerStub();
+    private MeetingRecordingModelStub model;
+    private MeetingExpiryScheduler scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = new AddressBookBuilder()
+            .withClient(new ClientBuilder(ALICE).withNextMeeting("01-01-2099 (10:00~12:00), Office").build())
+            .withClient(new ClientBuilder(BENSON).withNextMeeting("01-02-2099 (10:00~12:00), Office").build())
+            .build();
+        model = new MeetingRecordingModelStub(addressBook);
+        Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        scheduler = new MeetingExpiryScheduler(model, Runnable::run, timer, clock);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    public void start_meetingsPlanned_armedForEarliestMeetingEnd() {
+        scheduler.start();
+        assertEquals(List.of(millisUntil(LocalDateTime.of(2099, 1, 1, 12, 0))), timer.delays);
+    }
+
+    @Test
+    public void start_noMeetingsPlanned_notArmed() {
+        model.setAddressBook(new AddressBook());
+        scheduler.start();
+        assertTrue(timer.delays.isEmpty());
+    }
+
+    @Test
+    public void clientEdited_earlierMeeting_rearmedForEarlierMeetingEnd() {
+        scheduler.start();
+        model.setAllClients(List.of(BENSON.getClientId()),
+            new EditClientDescriptorBuilder().withNextMeeting("01-01-2099", "09:00", "10:30", "Office").build());
+
+        assertEquals(List.of(millisUntil(LocalDateTime.of(2099, 1, 1, 12, 0)),
+            millisUntil(LocalDateTime.of(2099, 1, 1, 10, 30))), timer.delays);
+        assertTrue(timer.futures.get(0).isCancelled());
+        assertFalse(timer.futures.get(1).isCancelled());
+    }
+
+    @Test
+    public void clientEdited_laterMeeting_notRearmed() {
+        scheduler.start();
+        model.setAllClients(List.of(BENSON.getClientId()),
+            new EditClientDescriptorBuilder().withNextMeeting("02-02-2099", "09:00", "10:30", "Office").build());
+
+        assertEquals(1, timer.delays.size());
+        assertFalse(timer.futures.get(0).isCancelled());
+    }
+
+    @Test
+    public void timerFires_meetingOver_meetingRecordedAndRearmedForNextMeetingEnd() {
+        scheduler.start();
+        assertEquals(0, model.updateCount);
+
+        timer.tasks.get(0).run();
+        assertEquals(1, model.updateCount);
+        assertEquals(List.of(millisUntil(LocalDateTime.of(2099, 1, 1, 12, 0)),
+            millisUntil(LocalDateTime.of(2099, 2, 1, 12, 0))), timer.delays);
+    }
+
+    /**
+     * Returns the delay the timer is expected to be armed with for a meeting ending at {@code end}.
+     */
+    private static long millisUntil(LocalDateTime end) {
+        return Duration.between(NOW, end).toMillis() + 1;
+    }
+
+    /**
+     * A model that records the meeting with Alice as over whenever it records the meetings that are over, as
+     * meetings cannot be planned in the past.
+     */
+    private static class MeetingRecordingModelStub extends ModelManager {
+        private int updateCount;
+
+        private MeetingRecordingModelStub(ReadOnlyAddressBook addressBook) {
+            super(addressBook, new UserPrefs());
+        }
+
+        @Override
+        public void updateLastMetDate() {
+            updateCount++;
+            EditClientDescriptor meetingOver = new EditClientDescriptor();
+            meetingOver.setNextMeeting(NextMeeting.NULL_MEETING);
+            setAllClients(List.of(ALICE.getClientId()), meetingOver);
+        }
+    }
+
+    /**
+     * A timer that records the tasks scheduled on it instead of running them.
+     */
+    private static class TimerStub extends ScheduledThreadPoolExecutor {
+        private final List<Runnable> tasks = new ArrayList<>();
+        private final List<Long> delays = new ArrayList<>();
+        private final List<ScheduledFuture<?>> futures = new ArrayList<>();
+
+        private TimerStub() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            tasks.add(command);
+            delays.add(unit.toMillis(delay));
+            // a future that can be cancelled, but does not run during the test
+            ScheduledFuture<?> future = super.schedule(() -> {}, 1, TimeUnit.DAYS);
+            futures.add(future);
+            return future;
+        }
+    }
+}
@@ -3,23 +3,32 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.ALL_PREFIXES;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.BENSON;
 import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ObservableList;
+
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.LogicManager;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.model.client.Client;
 import seedu.address.model.client.ClientContainsKeywordsPredicate;
 import seedu.address.model.client.ClientHasId;
 import seedu.address.model.client.ClientId;
@@ -28,6 +37,8 @@ import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.EditClientDescriptorBuilder;
 import seedu.address.ui.ThemeType;
 
 public class ModelManagerTest {
@@ -118,6 +129,73 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredTagList().remove(0));
     }
 
+    @Test
+    public void updateFilteredClientList_sameQueryUnchangedClients_reusesResult() {
+        AddressBook addressBook = new AddressBookBuilder().withClient(ALICE).withClient(BENSON).withClient(CARL)
+                .build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        AtomicInteger testCount = new AtomicInteger();
+        Predicate<Client> isFriend = client -> {
+            testCount.incrementAndGet();
+            return client.getTags().stream().anyMatch(tag -> tag.getName().equals("friends"));
+        };
+        Predicate<Client> hasMeier = client -> {
+            testCount.incrementAndGet();
+            return client.getName().toString().contains("Meier");
+        };
+
+        modelManager.updateFilteredClientList("friends", isFriend);
+        modelManager.filterFilteredClientList("meier", hasMeier);
+        assertEquals(List.of(BENSON), modelManager.getFilteredClientList());
+        int testCountOfQueries = testCount.get();
+
+        // same queries again -> results reused
+        modelManager.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        modelManager.updateFilteredClientList("friends", isFriend);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredClientList());
+        modelManager.filterFilteredClientList("meier", hasMeier);
+        assertEquals(List.of(BENSON), modelManager.getFilteredClientList());
+        assertEquals(testCountOfQueries, testCount.get());
+
+        // edited client -> tested against the queries, and results found again after
+        modelManager.setAllClients(List.of(BENSON.getClientId()),
+                new EditClientDescriptorBuilder().withTags().build());
+        assertEquals(List.of(), modelManager.getFilteredClientList());
+        modelManager.updateFilteredClientList("friends", isFriend);
+        assertEquals(List.of(ALICE), modelManager.getFilteredClientList());
+        assertTrue(testCount.get() > testCountOfQueries);
+    }
+
+    @Test
+    public void filterFilteredClientList_unknownShownClients_testsShownClients() {
+        AddressBook addressBook = new AddressBookBuilder().withClient(ALICE).withClient(BENSON).withClient(CARL)
+                .build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.updateFilteredClientList(client -> !client.equals(BENSON));
+        modelManager.filterFilteredClientList("not alice", client -> !client.equals(ALICE));
+        assertEquals(List.of(CARL), modelManager.getFilteredClientList());
+    }
+
+    @Test
+    public void updateFilteredClientList_moreClientsThanParallelQueryThreshold_sameResult() {
+        UserPrefs parallelUserPrefs = new UserPrefs();
+        parallelUserPrefs.setParallelQueryThreshold(1);
+        ModelManager parallelModelManager = new ModelManager(getTypicalAddressBook(), parallelUserPrefs);
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        for (String keywords : List.of("e", "meier", "t/friends", "a t/friends", "n/alice", "xyz")) {
+            ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + keywords, ALL_PREFIXES);
+            ClientContainsKeywordsPredicate predicate = new ClientContainsKeywordsPredicate(argMultimap);
+            List<Object> queryKey = List.of("search", predicate);
+
+            modelManager.updateFilteredClientList(queryKey, predicate.withGeneralPredicate(
+                    modelManager.createKeywordPredicate(predicate.getGeneralKeywords())));
+            parallelModelManager.updateFilteredClientList(queryKey, predicate.withGeneralPredicate(
+                    parallelModelManager.createKeywordPredicate(predicate.getGeneralKeywords())));
+            assertEquals(modelManager.getFilteredClientList(), parallelModelManager.getFilteredClientList());
+        }
+    }
+
     @Test
     public void test_isClientExistToView() {
         // predicate returns empty list -> false
@@ -174,6 +252,24 @@ public class ModelManagerTest {
         assertEquals(modelManager.getTheme(), expectedLogic.getTheme());
     }
 
+    @Test
+    public void filterSortedNextMeetingList_clientEditedIntoRange_clientShown() {
+        AddressBook addressBook = new AddressBookBuilder()
+                .withClient(new ClientBuilder(ALICE).withNextMeeting("01-01-2099 (10:00~12:00), Office").build())
+                .withClient(new ClientBuilder(BENSON).withNextMeeting("01-02-2099 (10:00~12:00), Office").build())
+                .build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        ObservableList<Client> shownNextMeetings = modelManager.getSortedNextMeetingList();
+
+        modelManager.filterSortedNextMeetingList(LocalDate.of(2099, 1, 1), LocalDate.of(2099, 1, 31));
+        assertEquals(List.of(modelManager.getClient(ALICE.getClientId())), shownNextMeetings);
+
+        modelManager.setAllClients(List.of(BENSON.getClientId()),
+                new EditClientDescriptorBuilder().withNextMeeting("05-01-2099", "10:00", "12:00", "Office").build());
+        assertEquals(List.of(modelManager.getClient(ALICE.getClientId()), modelManager.getClient(BENSON.getClientId())),
+                shownNextMeetings);
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withClient(ALICE).withClient(BENSON).build();
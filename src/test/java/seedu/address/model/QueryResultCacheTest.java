@@ -0,0 +1,59 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+public class QueryResultCacheTest {
+
+    private final QueryResultCache<String> cache = new QueryResultCache<>("Test", 2);
+    private final AtomicInteger queryCount = new AtomicInteger();
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryResultCache<String>("Test", 0));
+    }
+
+    @Test
+    public void get_sameQueryAndVersion_reusesResult() {
+        assertEquals("alice", cache.get(List.of("search", "alice"), 1, query("alice")));
+        assertEquals("alice", cache.get(List.of("search", "alice"), 1, query("other")));
+        assertEquals(1, queryCount.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void get_versionChanged_findsResultAgain() {
+        cache.get("alice", 1, query("alice"));
+        assertEquals("alice again", cache.get("alice", 2, query("alice again")));
+        assertEquals("alice again", cache.get("alice", 2, query("other")));
+        assertEquals(2, queryCount.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void get_moreQueriesThanCapacity_dropsLeastRecentlyUsed() {
+        cache.get("alice", 1, query("alice"));
+        cache.get("bob", 1, query("bob"));
+        cache.get("alice", 1, query("other")); // bob is now the least recently used
+        cache.get("carl", 1, query("carl"));
+        assertEquals(2, cache.size());
+
+        assertEquals("alice", cache.get("alice", 1, query("other")));
+        assertEquals("bob again", cache.get("bob", 1, query("bob again")));
+        assertEquals(4, queryCount.get());
+    }
+
+    private Supplier<String> query(String result) {
+        return () -> {
+            queryCount.incrementAndGet();
+            return result;
+        };
+    }
+}
@@ -22,6 +22,18 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setParallelQueryThreshold_nonPositiveThreshold_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setParallelQueryThreshold(0));
+    }
+
+    @Test
+    public void setAddressBookSaveDelay_negativeDelay_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setAddressBookSaveDelay(-1));
+    }
+
     @Test
     public void equals() {
         UserPrefs userPref = new UserPrefs();
@@ -43,5 +55,21 @@ public class UserPrefsTest {
         // same gui settings
         otherPref.setGuiSettings(guiSettings);
         assertTrue(userPref.equals(otherPref));
+
+        // different parallel query threshold
+        otherPref.setParallelQueryThreshold(1);
+        assertFalse(userPref.equals(otherPref));
+
+        // different pretty printing of address book
+        otherPref = new UserPrefs();
+        otherPref.setGuiSettings(guiSettings);
+        otherPref.setAddressBookPrettyPrinted(false);
+        assertFalse(userPref.equals(otherPref));
+
+        // different address book save delay
+        otherPref = new UserPrefs();
+        otherPref.setGuiSettings(guiSettings);
+        otherPref.setAddressBookSaveDelay(1000);
+        assertFalse(userPref.equals(otherPref));
     }
 }
@@ -0,0 +1,97 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISPOSABLEINCOME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LASTMET;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NEXTMEETING;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RISKAPPETITE;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.ELLE;
+import static seedu.address.testutil.TypicalClients.OPTIONAL_AMY;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class AttributeRangeTest {
+
+    @Test
+    public void constructor_invalidRangeExpression_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AttributeRange(PREFIX_RISKAPPETITE, "3"));
+        assertThrows(IllegalArgumentException.class, () -> new AttributeRange(PREFIX_ADDRESS, ">=3"));
+    }
+
+    @Test
+    public void isRangeExpression() {
+        assertTrue(AttributeRange.isRangeExpression(PREFIX_DISPOSABLEINCOME, ">=5000"));
+        assertTrue(AttributeRange.isRangeExpression(PREFIX_RISKAPPETITE, "2..x"));
+        assertTrue(AttributeRange.isRangeExpression(PREFIX_NEXTMEETING, "THIS-WEEK"));
+
+        assertFalse(AttributeRange.isRangeExpression(PREFIX_DISPOSABLEINCOME, "5000"));
+        assertFalse(AttributeRange.isRangeExpression(PREFIX_RISKAPPETITE, "this-week"));
+        assertFalse(AttributeRange.isRangeExpression(PREFIX_ADDRESS, "<10"));
+    }
+
+    @Test
+    public void isValidRangeExpression() {
+        // invalid ranges
+        assertFalse(AttributeRange.isValidRangeExpression(PREFIX_DISPOSABLEINCOME, ">=")); // no bound
+        assertFalse(AttributeRange.isValidRangeExpression(PREFIX_DISPOSABLEINCOME, ">=-1")); // negative income
+        assertFalse(AttributeRange.isValidRangeExpression(PREFIX_RISKAPPETITE, "0..3")); // risk appetite below 1
+        assertFalse(AttributeRange.isValidRangeExpression(PREFIX_LASTMET, "<01/01/2021")); // wrong date format
+        assertFalse(AttributeRange.isValidRangeExpression(PREFIX_LASTMET, "01-01-2021..")); // no upper bound
+
+        // valid ranges
+        assertTrue(AttributeRange.isValidRangeExpression(PREFIX_DISPOSABLEINCOME, ">5000.50"));
+        assertTrue(AttributeRange.isValidRangeExpression(PREFIX_RISKAPPETITE, "2..4"));
+        assertTrue(AttributeRange.isValidRangeExpression(PREFIX_LASTMET, "<=01-01-2021"));
+        assertTrue(AttributeRange.isValidRangeExpression(PREFIX_NEXTMEETING, "this-month"));
+    }
+
+    @Test
+    public void constructor_validRangeExpression_keepsClosedBounds() {
+        AttributeRange aboveIncome = new AttributeRange(PREFIX_DISPOSABLEINCOME, ">200");
+        assertEquals(20001, aboveIncome.getMin());
+        assertEquals(Long.MAX_VALUE, aboveIncome.getMax());
+
+        AttributeRange beforeDate = new AttributeRange(PREFIX_LASTMET, "<07-10-2021");
+        assertEquals(LocalDate.of(2021, 10, 6).toEpochDay(), beforeDate.getMax());
+
+        AttributeRange thisWeek = new AttributeRange(PREFIX_NEXTMEETING, "this-week");
+        assertEquals(6, thisWeek.getMax() - thisWeek.getMin());
+        assertTrue(thisWeek.getMin() <= LocalDate.now().toEpochDay());
+        assertTrue(LocalDate.now().toEpochDay() <= thisWeek.getMax());
+
+        assertTrue(new AttributeRange(PREFIX_RISKAPPETITE, "4..2").isEmpty());
+    }
+
+    @Test
+    public void test() {
+        // ALICE has a disposable income of 200, a risk appetite of 2 and was last met on 07-10-2021
+        assertTrue(new AttributeRange(PREFIX_DISPOSABLEINCOME, ">=200").test(ALICE));
+        assertFalse(new AttributeRange(PREFIX_DISPOSABLEINCOME, ">200").test(ALICE));
+        assertTrue(new AttributeRange(PREFIX_RISKAPPETITE, "1..2").test(ALICE));
+        assertFalse(new AttributeRange(PREFIX_LASTMET, "<07-10-2021").test(ALICE));
+        assertTrue(new AttributeRange(PREFIX_LASTMET, "<07-10-2021").test(CARL));
+
+        // clients without the attribute are never within a range
+        assertFalse(new AttributeRange(PREFIX_NEXTMEETING, ">=01-01-2000").test(ELLE));
+        assertFalse(new AttributeRange(PREFIX_RISKAPPETITE, "1..5").test(OPTIONAL_AMY));
+    }
+
+    @Test
+    public void equals() {
+        AttributeRange range = new AttributeRange(PREFIX_RISKAPPETITE, ">=2");
+
+        assertTrue(range.equals(range));
+        assertTrue(range.equals(new AttributeRange(PREFIX_RISKAPPETITE, ">1"))); // same bounds
+        assertFalse(range.equals(new AttributeRange(PREFIX_RISKAPPETITE, "2..5")));
+        assertFalse(range.equals(new AttributeRange(PREFIX_DISPOSABLEINCOME, ">=2")));
+        assertFalse(range.equals(null));
+    }
+}
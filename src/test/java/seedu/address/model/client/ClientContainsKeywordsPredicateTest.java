@@ -0,0 +1,86 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.mapper.PrefixMapper.getAttributeFunction;
+import static seedu.address.logic.parser.CliSyntax.ALL_PREFIXES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CURRENTPLAN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.model.AddressBook;
+import seedu.address.model.tag.TagExpression;
+import seedu.address.testutil.ClientBuilder;
+
+public class ClientContainsKeywordsPredicateTest {
+
+    private final Client amy = new ClientBuilder().withTags("friends").build();
+
+    @Test
+    public void test_generalKeywordsMatchAnyAttributeIgnoringCase_returnsTrue() {
+        assertTrue(preparePredicate("JURONG").test(amy));
+        assertTrue(preparePredicate("nothing FRIEND").test(amy));
+        assertTrue(preparePredicate("planned").test(amy));
+    }
+
+    @Test
+    public void test_generalKeywordsMatchNoAttribute_returnsFalse() {
+        assertFalse(preparePredicate("bob clementi").test(amy));
+    }
+
+    @Test
+    public void test_attributeKeywords_allMustMatch() {
+        assertTrue(preparePredicate("n/aMy e/GMAIL").test(amy));
+        assertFalse(preparePredicate("n/amy e/yahoo").test(amy));
+    }
+
+    @Test
+    public void test_tagKeywords_allMustMatch() {
+        assertTrue(preparePredicate("t/FRI t/ends").test(amy));
+        assertFalse(preparePredicate("t/friends t/colleagues").test(amy));
+    }
+
+    @Test
+    public void constructor_attributeKeywords_compiledIntoPlan() {
+        ClientContainsKeywordsPredicate predicate = preparePredicate("c/PRU n/AMY e/gmail a/Jurong West t/friends");
+        assertEquals(List.of("amy", "gmail", "jurong west", "pru"), predicate.getAttributeKeywords());
+        assertEquals(List.of(getAttributeFunction(PREFIX_NAME), getAttributeFunction(PREFIX_EMAIL),
+                getAttributeFunction(PREFIX_ADDRESS), getAttributeFunction(PREFIX_CURRENTPLAN)),
+                predicate.getKeywordAttributeFunctions());
+    }
+
+    @Test
+    public void resolve_indexedPredicates_sameResultWithoutReadingIndexes() {
+        AddressBook addressBook = getTypicalAddressBook();
+        ClientContainsKeywordsPredicate predicate = preparePredicate("meier t/friends r/2..4");
+        ClientContainsKeywordsPredicate indexedPredicate = predicate
+                .withTagPredicate(addressBook.createTagPredicate(new TagExpression(predicate.getTagKeywords())))
+                .withRangePredicate(addressBook.createRangePredicate(predicate.getAttributeRanges()))
+                .withGeneralPredicate(addressBook.createKeywordPredicate(predicate.getGeneralKeywords()));
+        Predicate<Client> resolvedPredicate = indexedPredicate.resolve();
+
+        List<Client> clients = List.copyOf(addressBook.getClientList());
+        assertEquals(List.of(BENSON), clients.stream().filter(indexedPredicate).collect(Collectors.toList()));
+        assertEquals(List.of(BENSON), clients.stream().filter(resolvedPredicate).collect(Collectors.toList()));
+
+        // the resolved predicate keeps the clients found, while the indexes change
+        addressBook.removeClient(BENSON);
+        assertFalse(indexedPredicate.test(BENSON));
+        assertTrue(resolvedPredicate.test(BENSON));
+    }
+
+    private ClientContainsKeywordsPredicate preparePredicate(String s) {
+        return new ClientContainsKeywordsPredicate(ArgumentTokenizer.tokenize(" " + s, ALL_PREFIXES));
+    }
+}
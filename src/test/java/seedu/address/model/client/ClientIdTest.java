@@ -1,7 +1,10 @@
 package seedu.address.model.client;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.client.SortDirection.SORT_ASCENDING;
+import static seedu.address.model.client.SortDirection.SORT_DESCENDING;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -33,6 +36,22 @@ public class ClientIdTest {
         assertTrue(ClientId.isValidClientId("12345")); // any positive int
     }
 
+    @Test
+    public void constructor_numericValue_matchesStringValue() {
+        assertEquals(12, new ClientId("0012").id);
+        assertEquals(new ClientId("12"), new ClientId(12));
+        assertThrows(IllegalArgumentException.class, () -> new ClientId(-1));
+    }
+
+    @Test
+    public void compareWithDirection_comparesNumerically() {
+        ClientId nine = new ClientId("9");
+        ClientId ten = new ClientId("10");
+        assertTrue(nine.compareWithDirection(ten, SORT_ASCENDING) < 0);
+        assertTrue(nine.compareWithDirection(ten, SORT_DESCENDING) > 0);
+        assertEquals(0, ten.compareWithDirection(new ClientId(10), SORT_ASCENDING));
+    }
+
     @Test
     public void isEqual() {
         String input1 = "1";
@@ -0,0 +1,57 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalClients.getTypicalClients;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+
+public class ClientPreviewQueryTest {
+
+    private final AtomicLong version = new AtomicLong(1);
+    private final Predicate<Client> hasMeier = client -> client.getName().toString().contains("Meier");
+    private final ClientPreviewQuery query = new ClientPreviewQuery(getTypicalClients(), hasMeier, 1, version::get);
+
+    @Test
+    public void call_matchingClients_returnsClientsInOrder() throws Exception {
+        assertEquals(List.of(BENSON, DANIEL), query.call());
+    }
+
+    @Test
+    public void call_indexedPredicate_indexesReadWhenCreated() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<Client> clients = List.copyOf(addressBook.getClientList());
+        ClientPreviewQuery indexedQuery = new ClientPreviewQuery(clients,
+                addressBook.createKeywordPredicate(List.of("meier")), 1, version::get);
+
+        // the clients are found in the index when the query is created, not when it is called
+        addressBook.removeClient(BENSON);
+        assertEquals(List.of(BENSON, DANIEL), indexedQuery.call());
+    }
+
+    @Test
+    public void call_threadInterrupted_throwsInterruptedException() {
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, query::call);
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void isStale() {
+        assertFalse(query.isStale());
+
+        version.incrementAndGet();
+        assertTrue(query.isStale());
+    }
+}
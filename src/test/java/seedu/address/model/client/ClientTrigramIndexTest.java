@@ -0,0 +1,93 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.getTypicalClients;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.testutil.ClientBuilder;
+
+public class ClientTrigramIndexTest {
+
+    private final ClientTrigramIndex index = new ClientTrigramIndex();
+
+    @Test
+    public void add_nullClient_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getClientIdsContaining_keywordInAttributeOrTag_returnsMatchingClients() {
+        index.add(ALICE); // Alice Pauline, alice@example.com, friends
+        index.add(BENSON); // Benson Meier, johnd@example.com, owesMoney, friends
+        index.add(CARL); // Carl Kurz, heinz@example.com, no tags
+
+        assertEquals(Set.of(ALICE.getClientId()), index.getClientIdsContaining("PAULINE"));
+        assertEquals(Set.of(BENSON.getClientId()), index.getClientIdsContaining("sMoN"));
+        assertEquals(Set.of(ALICE.getClientId(), BENSON.getClientId()), index.getClientIdsContaining("friend"));
+        assertEquals(Set.of(ALICE.getClientId(), BENSON.getClientId(), CARL.getClientId()),
+                index.getClientIdsContaining("example.com"));
+        assertTrue(index.getClientIdsContaining("enemies").isEmpty());
+    }
+
+    @Test
+    public void getClientIdsContaining_keywordShorterThanTrigram_checksEveryClient() {
+        index.add(ALICE);
+        index.add(CARL);
+
+        assertEquals(Set.of(CARL.getClientId()), index.getClientIdsContaining("kU"));
+        assertEquals(Set.of(ALICE.getClientId(), CARL.getClientId()), index.getClientIdsContaining("a"));
+    }
+
+    @Test
+    public void getClientIdsContaining_trigramsSpreadOverAttributes_returnsNoClient() {
+        // "ine" and "neh" are both in the text of the client, but not "ineh" within one attribute
+        index.add(new ClientBuilder().withClientId("0").withName("Pauline").withEmail("heinz@example.com")
+                .withAddress("nehru street").build());
+        assertTrue(index.getClientIdsContaining("ineh").isEmpty());
+    }
+
+    @Test
+    public void remove_indexedClient_removesClientText() {
+        index.add(ALICE);
+        index.add(BENSON);
+        long version = index.getVersion();
+
+        index.remove(ALICE);
+        assertNotEquals(version, index.getVersion());
+        assertEquals(Set.of(BENSON.getClientId()), index.getClientIdsContaining("friend"));
+        assertTrue(index.getClientIdsContaining("pauline").isEmpty());
+
+        Client editedBenson = new ClientBuilder(BENSON).withName("Bennett Meier").build();
+        index.add(editedBenson);
+        assertTrue(index.getClientIdsContaining("benson").isEmpty());
+        assertEquals(Set.of(BENSON.getClientId()), index.getClientIdsContaining("bennett"));
+    }
+
+    @Test
+    public void getClientIdsContaining_typicalClients_sameAsKeywordPredicate() {
+        List<Client> clients = getTypicalClients();
+        clients.forEach(index::add);
+
+        for (String keyword : List.of("a", "ie", "meier", "@example.", "street", "prudential", "2021", "friends")) {
+            ClientContainsKeywordsPredicate predicate =
+                    new ClientContainsKeywordsPredicate(ArgumentTokenizer.tokenize(keyword));
+            Set<ClientId> expectedClientIds = clients.stream()
+                    .filter(predicate)
+                    .map(Client::getClientId)
+                    .collect(Collectors.toSet());
+            assertEquals(expectedClientIds, index.getClientIdsContaining(keyword), keyword);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CURRENTPLAN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+import static seedu.address.testutil.TypicalClients.ELLE;
+import static seedu.address.testutil.TypicalClients.getTypicalClients;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.mapper.PrefixMapper;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.testutil.ClientBuilder;
+
+public class ClientWordIndexTest {
+
+    private final ClientWordIndex index = new ClientWordIndex();
+
+    @Test
+    public void add_nullClient_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getClientDistances_closeWords_returnsClosestDistances() {
+        index.add(BENSON); // Benson Meier
+        index.add(DANIEL); // Daniel Meier
+        index.add(ELLE); // Elle Meyer
+
+        assertEquals(Map.of(BENSON.getClientId(), 0, DANIEL.getClientId(), 0, ELLE.getClientId(), 1),
+                index.getClientDistances(List.of(PREFIX_NAME), "MEIER", 1));
+        assertEquals(Map.of(BENSON.getClientId(), 0, DANIEL.getClientId(), 0),
+                index.getClientDistances(List.of(PREFIX_NAME), "meier", 0));
+        assertEquals(Map.of(DANIEL.getClientId(), 2),
+                index.getClientDistances(List.of(PREFIX_NAME), "danyal", 2));
+    }
+
+    @Test
+    public void getClientDistances_wordInOtherAttribute_notMatched() {
+        index.add(ALICE); // Alice Pauline, tagged friends
+
+        assertTrue(index.getClientDistances(List.of(PREFIX_ADDRESS), "pauline", 2).isEmpty());
+        assertEquals(Map.of(ALICE.getClientId(), 1), index.getClientDistances(List.of(PREFIX_TAG), "frends", 2));
+        assertEquals(Map.of(ALICE.getClientId(), 1),
+                index.getClientDistances(ClientWordIndex.INDEXED_PREFIXES, "paulin", 2));
+    }
+
+    @Test
+    public void remove_indexedClient_removesClientWords() {
+        index.add(BENSON);
+        index.add(DANIEL);
+
+        index.remove(BENSON);
+        assertEquals(Map.of(DANIEL.getClientId(), 0), index.getClientDistances(List.of(PREFIX_NAME), "meier", 1));
+        assertTrue(index.getClientDistances(List.of(PREFIX_NAME), "benson", 2).isEmpty());
+
+        Client editedDaniel = new ClientBuilder(DANIEL).withName("Daniel Mayer").build();
+        index.add(editedDaniel);
+        assertTrue(index.getClientDistances(List.of(PREFIX_NAME), "meier", 0).isEmpty());
+        assertEquals(Map.of(DANIEL.getClientId(), 0), index.getClientDistances(List.of(PREFIX_NAME), "mayer", 0));
+    }
+
+    @Test
+    public void getClientDistances_typicalClients_sameAsComparingEveryWord() {
+        List<Client> clients = getTypicalClients();
+        clients.forEach(index::add);
+
+        List<String> keywords = List.of("a", "ave", "meyer", "paulin", "prudentail", "exampel", "strete", "aaaa");
+        for (Prefix prefix : List.of(PREFIX_NAME, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_CURRENTPLAN)) {
+            for (String keyword : keywords) {
+                for (int maxDistance = 0; maxDistance <= 2; maxDistance++) {
+                    assertEquals(getDistancesOfEveryWord(clients, prefix, keyword, maxDistance),
+                            index.getClientDistances(List.of(prefix), keyword, maxDistance), prefix + keyword);
+                }
+            }
+        }
+    }
+
+    private static Map<ClientId, Integer> getDistancesOfEveryWord(List<Client> clients, Prefix prefix,
+            String keyword, int maxDistance) {
+        Map<ClientId, Integer> distances = new HashMap<>();
+        for (Client client : clients) {
+            String text = PrefixMapper.getAttributeFunction(prefix).apply(client).toString().toLowerCase();
+            for (String word : text.split(ClientWordIndex.WORD_DELIMITER)) {
+                int distance = StringUtil.getEditDistance(keyword, word, maxDistance);
+                if (!word.isEmpty() && distance <= maxDistance) {
+                    distances.merge(client.getClientId(), distance, Math::min);
+                }
+            }
+        }
+        return distances;
+    }
+}
@@ -42,6 +42,14 @@ public class DisposableIncomeTest {
         assertTrue(DisposableIncome.isValidDisposableIncome("50,0000.963")); // with comma
     }
 
+    @Test
+    public void constructor_validDisposableIncome_keepsValueInCents() {
+        assertEquals(0, new DisposableIncome("").valueInCents);
+        assertEquals(243200, new DisposableIncome("2432").valueInCents);
+        assertEquals(36969, new DisposableIncome("369.69").valueInCents);
+        assertEquals(50000096, new DisposableIncome("50,0000.963").valueInCents);
+    }
+
     @Test
     public void equals() {
         DisposableIncome john = new DisposableIncome("5000.00");
@@ -0,0 +1,93 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+import static seedu.address.testutil.TypicalClients.ELLE;
+import static seedu.address.testutil.TypicalClients.FIONA;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+
+public class FuzzyQueryTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void constructor_keywordWithoutWords_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FuzzyQuery(List.of("@@"), Map.of()));
+        assertThrows(IllegalArgumentException.class, () ->
+                new FuzzyQuery(List.of(), Map.of(PREFIX_NAME, List.of("daniel", " "))));
+    }
+
+    @Test
+    public void getMaxDistance() {
+        assertEquals(0, FuzzyQuery.getMaxDistance(2));
+        assertEquals(1, FuzzyQuery.getMaxDistance(3));
+        assertEquals(1, FuzzyQuery.getMaxDistance(5));
+        assertEquals(2, FuzzyQuery.getMaxDistance(6));
+    }
+
+    @Test
+    public void getTopMatches_generalKeywords_rankedByClosestKeyword() {
+        // Elle Meyer matches exactly, Benson Meier and Daniel Meier are 1 edit away and ranked by client id
+        FuzzyQuery query = new FuzzyQuery(List.of("MEYER"), Map.of());
+        assertEquals(List.of(ELLE, BENSON, DANIEL), addressBook.getFuzzyMatches(query, PREDICATE_SHOW_ALL_CLIENTS, 10));
+
+        // Fiona Kunz is 1 edit from kurz
+        query = new FuzzyQuery(List.of("kurz", "pauline"), Map.of());
+        assertEquals(List.of(ALICE, CARL, FIONA), addressBook.getFuzzyMatches(query, PREDICATE_SHOW_ALL_CLIENTS, 10));
+    }
+
+    @Test
+    public void getTopMatches_attributeKeywords_everyWordMatchedInAttribute() {
+        // meyr is 1 edit from meyer, but 2 edits from meier
+        FuzzyQuery query = new FuzzyQuery(List.of(), Map.of(PREFIX_NAME, List.of("meyr")));
+        assertEquals(List.of(ELLE), addressBook.getFuzzyMatches(query, PREDICATE_SHOW_ALL_CLIENTS, 10));
+
+        query = new FuzzyQuery(List.of(), Map.of(PREFIX_NAME, List.of("danial meir")));
+        assertEquals(List.of(DANIEL), addressBook.getFuzzyMatches(query, PREDICATE_SHOW_ALL_CLIENTS, 10));
+
+        // every keyword of the same attribute must match
+        query = new FuzzyQuery(List.of(), Map.of(PREFIX_NAME, List.of("danial", "meir")));
+        assertEquals(List.of(DANIEL), addressBook.getFuzzyMatches(query, PREDICATE_SHOW_ALL_CLIENTS, 10));
+
+        // Meier is only in names
+        query = new FuzzyQuery(List.of("meier"), Map.of(PREFIX_ADDRESS, List.of("clementy")));
+        assertEquals(List.of(BENSON), addressBook.getFuzzyMatches(query, PREDICATE_SHOW_ALL_CLIENTS, 10));
+    }
+
+    @Test
+    public void getTopMatches_limitAndPredicate_keepsBestMatchingClients() {
+        FuzzyQuery query = new FuzzyQuery(List.of("meyer"), Map.of());
+        assertEquals(List.of(ELLE, BENSON), addressBook.getFuzzyMatches(query, PREDICATE_SHOW_ALL_CLIENTS, 2));
+        assertEquals(List.of(BENSON, DANIEL), addressBook.getFuzzyMatches(query, client -> !client.equals(ELLE), 2));
+        assertTrue(addressBook.getFuzzyMatches(query, client -> false, 2).isEmpty());
+        assertThrows(IllegalArgumentException.class, () ->
+                addressBook.getFuzzyMatches(query, PREDICATE_SHOW_ALL_CLIENTS, 0));
+    }
+
+    @Test
+    public void equals() {
+        FuzzyQuery query = new FuzzyQuery(List.of("alice"), Map.of(PREFIX_NAME, List.of("pauline")));
+
+        assertTrue(query.equals(query));
+        assertTrue(query.equals(new FuzzyQuery(List.of("ALICE"), Map.of(PREFIX_NAME, List.of("Pauline")))));
+        assertFalse(query.equals(new FuzzyQuery(List.of("alice"), Map.of())));
+        assertFalse(query.equals(new FuzzyQuery(List.of("alice"), Map.of(PREFIX_ADDRESS, List.of("pauline")))));
+        assertFalse(query.equals(null));
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+import static seedu.address.testutil.TypicalClients.getTypicalClients;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ClientBuilder;
+
+public class MaterializedClientFilterTest {
+
+    private final List<Client> clients = getTypicalClients();
+    private final AtomicLong version = new AtomicLong();
+
+    @Test
+    public void constructor_shownClients_onlyShownClientsTested() {
+        AtomicInteger testCount = new AtomicInteger();
+        Predicate<Client> hasMeier = client -> {
+            testCount.incrementAndGet();
+            return client.getName().toString().contains("Meier");
+        };
+
+        MaterializedClientFilter filter = new MaterializedClientFilter(hasMeier, PREDICATE_SHOW_ALL_CLIENTS,
+                List.of(ALICE, BENSON, CARL), version.get(), version::get);
+        assertEquals(3, testCount.get());
+
+        // DANIEL matches the predicate but was not shown
+        assertEquals(List.of(BENSON), clients.stream().filter(filter).collect(Collectors.toList()));
+        assertEquals(3, testCount.get());
+    }
+
+    @Test
+    public void test_clientEditedAfterFilter_testedAgainstEveryFilter() {
+        Predicate<Client> isFriend = client -> client.getTags().stream()
+                .anyMatch(tag -> tag.getName().equals("friends"));
+        MaterializedClientFilter friends = new MaterializedClientFilter(isFriend, PREDICATE_SHOW_ALL_CLIENTS,
+                clients, version.get(), version::get);
+        List<Client> shownFriends = clients.stream().filter(friends).collect(Collectors.toList());
+        assertEquals(List.of(ALICE, BENSON, DANIEL), shownFriends);
+
+        Predicate<Client> hasMeier = client -> client.getName().toString().contains("Meier");
+        MaterializedClientFilter friendsNamedMeier = new MaterializedClientFilter(hasMeier, friends, shownFriends,
+                version.get(), version::get);
+        assertEquals(List.of(BENSON, DANIEL), clients.stream().filter(friendsNamedMeier).collect(Collectors.toList()));
+
+        // a client edited changes the version of the address book
+        version.incrementAndGet();
+        assertEquals(List.of(BENSON, DANIEL), clients.stream().filter(friendsNamedMeier).collect(Collectors.toList()));
+
+        assertTrue(friendsNamedMeier.test(new ClientBuilder(DANIEL).withPhone("91234567").build()));
+        assertFalse(friendsNamedMeier.test(new ClientBuilder(DANIEL).withName("Daniel Mayer").build()));
+        assertFalse(friendsNamedMeier.test(new ClientBuilder(DANIEL).withTags().build()));
+    }
+}
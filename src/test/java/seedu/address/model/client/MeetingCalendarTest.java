@@ -0,0 +1,66 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.BOB;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ClientBuilder;
+
+public class MeetingCalendarTest {
+
+    private final MeetingCalendar meetingCalendar = new MeetingCalendar();
+
+    @Test
+    public void getMeetings_nullDates_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> meetingCalendar.getMeetings(null, LocalDate.MAX));
+        assertThrows(NullPointerException.class, () -> meetingCalendar.getMeetings(LocalDate.MIN, null));
+    }
+
+    @Test
+    public void getMeetings_dateRange_returnsMeetingsInOrder() {
+        meetingCalendar.add(DANIEL);
+        meetingCalendar.add(BENSON);
+        meetingCalendar.add(CARL);
+        meetingCalendar.add(ALICE);
+        meetingCalendar.add(BOB); // no meeting planned
+
+        assertEquals(List.of(CARL, ALICE, BENSON, DANIEL), meetingCalendar.getMeetings(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(List.of(ALICE, BENSON),
+            meetingCalendar.getMeetings(LocalDate.of(2022, 11, 24), LocalDate.of(2022, 11, 27)));
+        assertEquals(List.of(BENSON),
+            meetingCalendar.getMeetings(LocalDate.of(2022, 11, 25), LocalDate.of(2022, 11, 25)));
+        assertEquals(List.of(), meetingCalendar.getMeetings(LocalDate.of(2022, 11, 27), LocalDate.of(2022, 11, 24)));
+    }
+
+    @Test
+    public void getMeetings_sameDay_orderedByTimeThenClientId() {
+        Client earlierBob = new ClientBuilder(BOB).withNextMeeting("24-11-2022 (08:00~09:00), Office").build();
+        Client laterAmy = new ClientBuilder(BOB).withClientId("9").withName("Amy Bee")
+            .withNextMeeting("24-11-2022 (10:00~12:00), Office").build();
+        meetingCalendar.add(laterAmy);
+        meetingCalendar.add(ALICE);
+        meetingCalendar.add(earlierBob);
+
+        LocalDate date = LocalDate.of(2022, 11, 24);
+        assertEquals(List.of(earlierBob, ALICE, laterAmy), meetingCalendar.getMeetings(date, date));
+    }
+
+    @Test
+    public void remove_existingMeeting_removesMeeting() {
+        meetingCalendar.add(ALICE);
+        meetingCalendar.add(BENSON);
+        meetingCalendar.remove(ALICE);
+        meetingCalendar.remove(BOB); // no meeting planned
+
+        assertEquals(List.of(BENSON), meetingCalendar.getMeetings(LocalDate.MIN, LocalDate.MAX));
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.commons.mapper.PrefixMapper.compareFunction;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLIENTID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CURRENTPLAN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISPOSABLEINCOME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LASTMET;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NEXTMEETING;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RISKAPPETITE;
+import static seedu.address.model.client.SortDirection.SORT_ASCENDING;
+import static seedu.address.model.client.SortDirection.SORT_DESCENDING;
+import static seedu.address.testutil.TypicalClients.getTypicalClients;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.Prefix;
+import seedu.address.testutil.ClientBuilder;
+
+public class SortByAttributeTest {
+
+    private static final Prefix[] SORTABLE_PREFIXES = {
+        PREFIX_CLIENTID, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_RISKAPPETITE,
+        PREFIX_DISPOSABLEINCOME, PREFIX_LASTMET, PREFIX_NEXTMEETING, PREFIX_CURRENTPLAN
+    };
+
+    @Test
+    public void compare_singleAttribute_sameOrderAsAttributeComparison() {
+        List<Client> clients = getShuffledClients();
+        for (Prefix prefix : SORTABLE_PREFIXES) {
+            for (SortDirection direction : List.of(SORT_ASCENDING, SORT_DESCENDING)) {
+                Comparator<Client> expected = (a, b) -> compareFunction(prefix, direction).apply(a, b);
+                assertSameOrder(clients, expected, new SortByAttribute(prefix, direction));
+            }
+        }
+    }
+
+    @Test
+    public void compare_multipleAttributes_comparesNextAttributeOnTie() {
+        List<Client> clients = getShuffledClients();
+        Comparator<Client> expected = (a, b) -> compareFunction(PREFIX_RISKAPPETITE, SORT_DESCENDING).apply(a, b);
+        expected = expected.thenComparing((a, b) -> compareFunction(PREFIX_DISPOSABLEINCOME, SORT_ASCENDING)
+                .apply(a, b));
+        expected = expected.thenComparing((a, b) -> compareFunction(PREFIX_CLIENTID, SORT_ASCENDING).apply(a, b));
+
+        SortByAttribute sorter = new SortByAttribute(PREFIX_RISKAPPETITE, SORT_DESCENDING)
+                .thenCompareByAttribute(PREFIX_DISPOSABLEINCOME)
+                .thenCompareByAttribute(PREFIX_CLIENTID);
+        assertSameOrder(clients, expected, sorter);
+    }
+
+    @Test
+    public void sort_sameOrderAsCompare() {
+        List<Client> clients = getShuffledClients();
+        for (Prefix prefix : SORTABLE_PREFIXES) {
+            for (SortDirection direction : List.of(SORT_ASCENDING, SORT_DESCENDING)) {
+                SortByAttribute sorter = new SortByAttribute(prefix, direction).thenCompareByAttribute(PREFIX_CLIENTID);
+                List<Client> expectedOrder = new ArrayList<>(clients);
+                expectedOrder.sort(sorter);
+                assertEquals(expectedOrder, sorter.sort(clients));
+            }
+        }
+    }
+
+    private void assertSameOrder(List<Client> clients, Comparator<Client> expected, Comparator<Client> actual) {
+        List<Client> expectedOrder = new ArrayList<>(clients);
+        expectedOrder.sort(expected);
+        List<Client> actualOrder = new ArrayList<>(clients);
+        actualOrder.sort(actual);
+        assertEquals(expectedOrder, actualOrder);
+    }
+
+    private List<Client> getShuffledClients() {
+        List<Client> clients = new ArrayList<>(getTypicalClients());
+        clients.add(new ClientBuilder().withClientId("20").withName("Empty Fields").withAddress("")
+                .withCurrentPlan("").build());
+        Collections.shuffle(clients, new Random(0));
+        return clients;
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DISPOSABLEINCOME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RISKAPPETITE;
+import static seedu.address.model.client.SortDirection.SORT_DESCENDING;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.HOON;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class SortedClientIndexTest {
+
+    private final SortByAttribute byName = new SortByAttribute(PREFIX_NAME, SORT_DESCENDING);
+    private final SortByAttribute byRiskAppetite = new SortByAttribute(PREFIX_RISKAPPETITE);
+    private final SortByAttribute byDisposableIncome = new SortByAttribute(PREFIX_DISPOSABLEINCOME);
+
+    private final List<Client> clients = new ArrayList<>(List.of(BENSON, ALICE, CARL));
+    private final SortedClientIndex sortedClientIndex = new SortedClientIndex();
+
+    @Test
+    public void getSortedClients_clientsChanged_indexKeptUpToDate() {
+        assertEquals(List.of(CARL, BENSON, ALICE), sortedClientIndex.getSortedClients(byName, clients));
+
+        add(HOON);
+        remove(BENSON);
+        assertTrue(sortedClientIndex.isIndexed(byName));
+        assertEquals(List.of(HOON, CARL, ALICE), sortedClientIndex.getSortedClients(byName, clients));
+    }
+
+    @Test
+    public void getSortedClients_moreSortsThanKept_leastRecentlyAskedForDropped() {
+        sortedClientIndex.getSortedClients(byName, clients);
+        sortedClientIndex.getSortedClients(byRiskAppetite, clients);
+        sortedClientIndex.getSortedClients(byName, clients);
+        sortedClientIndex.getSortedClients(byDisposableIncome, clients);
+
+        assertTrue(sortedClientIndex.isIndexed(byName));
+        assertFalse(sortedClientIndex.isIndexed(byRiskAppetite));
+        assertTrue(sortedClientIndex.isIndexed(byDisposableIncome));
+
+        // a dropped sort is rebuilt from the clients when asked for again
+        add(HOON);
+        List<Client> expected = new ArrayList<>(clients);
+        expected.sort(SortedClientIndex.getOrder(byRiskAppetite));
+        assertEquals(expected, sortedClientIndex.getSortedClients(byRiskAppetite, clients));
+        assertFalse(sortedClientIndex.isIndexed(byName));
+    }
+
+    private void add(Client client) {
+        clients.add(client);
+        sortedClientIndex.add(client);
+    }
+
+    private void remove(Client client) {
+        clients.remove(client);
+        sortedClientIndex.remove(client);
+    }
+}
@@ -0,0 +1,194 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.model.client.SortDirection.SORT_DESCENDING;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+import static seedu.address.testutil.TypicalClients.ELLE;
+import static seedu.address.testutil.TypicalClients.FIONA;
+import static seedu.address.testutil.TypicalClients.GEORGE;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.EditClientDescriptorBuilder;
+
+public class SortedClientListTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final SortedClientList sortedClients =
+            new SortedClientList(addressBook.getClientList(), addressBook::getSortedClients);
+
+    @Test
+    public void asUnmodifiableObservableList_noSorter_followsSourceOrder() {
+        assertEquals(addressBook.getClientList(), sortedClients.asUnmodifiableObservableList());
+
+        addressBook.addClient(HOON);
+        addressBook.removeAllClients(List.of(BENSON.getClientId(), ELLE.getClientId()));
+        assertEquals(addressBook.getClientList(), sortedClients.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setSorter_clientsChanged_keepsSorted() {
+        sortedClients.setSorter(new SortByAttribute(PREFIX_NAME, SORT_DESCENDING));
+        assertEquals(List.of(GEORGE, FIONA, ELLE, DANIEL, CARL, BENSON, ALICE),
+                sortedClients.asUnmodifiableObservableList());
+
+        addressBook.addClient(HOON);
+        addressBook.removeAllClients(List.of(CARL.getClientId()));
+        Client zed = addressBook.setAllClients(List.of(ALICE.getClientId()),
+                new EditClientDescriptorBuilder().withName("Zed").build()).get(0);
+        assertEquals(List.of(zed, HOON, GEORGE, FIONA, ELLE, DANIEL, BENSON),
+                sortedClients.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setSorter_sorterUsedBefore_keepsIndexUpToDate() {
+        SortByAttribute byName = new SortByAttribute(PREFIX_NAME, SORT_DESCENDING);
+        sortedClients.setSorter(byName);
+        addressBook.addClient(HOON);
+
+        sortedClients.setSorter(new SortByAttribute(PREFIX_NAME));
+        addressBook.removeAllClients(List.of(GEORGE.getClientId()));
+        sortedClients.setSorter(byName);
+        assertEquals(List.of(HOON, FIONA, ELLE, DANIEL, CARL, BENSON, ALICE),
+                sortedClients.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setRanking_clientsChanged_keepsRankedClientsFirst() {
+        sortedClients.setRanking(List.of(FIONA, CARL));
+        assertEquals(List.of(FIONA, CARL, ALICE, BENSON, DANIEL, ELLE, GEORGE),
+                sortedClients.asUnmodifiableObservableList());
+
+        addressBook.addClient(HOON);
+        addressBook.removeAllClients(List.of(ALICE.getClientId()));
+        Client editedFiona = addressBook.setAllClients(List.of(FIONA.getClientId()),
+                new EditClientDescriptorBuilder().withName("Fiona Kurz").build()).get(0);
+        assertEquals(List.of(editedFiona, CARL, BENSON, DANIEL, ELLE, GEORGE, HOON),
+                sortedClients.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void clearRanking_rankingSet_returnsToPreviousOrder() {
+        sortedClients.setRanking(List.of(FIONA, CARL));
+        sortedClients.clearRanking();
+        assertEquals(addressBook.getClientList(), sortedClients.asUnmodifiableObservableList());
+
+        sortedClients.setSorter(new SortByAttribute(PREFIX_NAME, SORT_DESCENDING));
+        sortedClients.setRanking(List.of(CARL));
+        addressBook.addClient(HOON);
+        sortedClients.clearRanking();
+        assertEquals(List.of(HOON, GEORGE, FIONA, ELLE, DANIEL, CARL, BENSON, ALICE),
+                sortedClients.asUnmodifiableObservableList());
+
+        // sorting drops the ranking
+        sortedClients.setRanking(List.of(CARL));
+        sortedClients.setSorter(new SortByAttribute(PREFIX_NAME));
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE, HOON),
+                sortedClients.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getUnrankedClients_rankingSet_returnsOrderWithoutRanking() {
+        sortedClients.setSorter(new SortByAttribute(PREFIX_NAME, SORT_DESCENDING));
+        sortedClients.setRanking(List.of(CARL));
+        assertEquals(List.of(GEORGE, FIONA, ELLE, DANIEL, CARL, BENSON, ALICE), sortedClients.getUnrankedClients());
+        assertEquals(List.of(CARL, ALICE, BENSON, DANIEL, ELLE, FIONA, GEORGE),
+                sortedClients.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setSorter_manyClientsChanged_singleChangeKeepsSorted() {
+        SortByAttribute byName = new SortByAttribute(PREFIX_NAME, SORT_DESCENDING);
+        sortedClients.setSorter(byName);
+        AtomicInteger changeCount = countChanges();
+
+        addressBook.removeAllClients(List.of(ALICE.getClientId(), DANIEL.getClientId(), GEORGE.getClientId()));
+        assertEquals(1, changeCount.get());
+        assertEquals(List.of(FIONA, ELLE, CARL, BENSON), sortedClients.asUnmodifiableObservableList());
+
+        addressBook.setClients(List.of(HOON, ALICE, BENSON));
+        assertEquals(2, changeCount.get());
+        assertEquals(List.of(HOON, BENSON, ALICE), sortedClients.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setSorter_fewClientsChangedInLongList_singleChangeKeepsSorted() {
+        SortByAttribute byName = new SortByAttribute(PREFIX_NAME, SORT_DESCENDING);
+        addressBook.setClients(createClients(64));
+        sortedClients.setSorter(byName);
+        AtomicInteger changeCount = countChanges();
+
+        List<Client> clients = addressBook.getClientList();
+        addressBook.setAllClients(List.of(clients.get(3).getClientId()),
+                new EditClientDescriptorBuilder().withName("Zed").build());
+        assertEquals(1, changeCount.get());
+        assertEquals(addressBook.getSortedClients(byName), sortedClients.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setRanking_manyClientsChanged_singleChangeKeepsRankedClientsFirst() {
+        sortedClients.setRanking(List.of(FIONA, CARL));
+        AtomicInteger changeCount = countChanges();
+
+        List<Client> editedClients = addressBook.setAllClients(List.of(CARL.getClientId(), ALICE.getClientId()),
+                new EditClientDescriptorBuilder().withPhone("99999999").build());
+        addressBook.removeAllClients(List.of(FIONA.getClientId(), DANIEL.getClientId()));
+        assertEquals(2, changeCount.get());
+        // an edited client that is not ranked is put at the end, as a new client is
+        assertEquals(List.of(editedClients.get(0), BENSON, ELLE, GEORGE, editedClients.get(1)),
+                sortedClients.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setRanking_fewClientsChangedInLongList_singleChangeKeepsRankedClientsFirst() {
+        addressBook.setClients(createClients(64));
+        List<Client> clients = new ArrayList<>(addressBook.getClientList());
+        sortedClients.setRanking(List.of(clients.get(5), clients.get(2)));
+        AtomicInteger changeCount = countChanges();
+
+        Client editedClient = addressBook.setAllClients(List.of(clients.get(2).getClientId()),
+                new EditClientDescriptorBuilder().withPhone("99999999").build()).get(0);
+        addressBook.addClient(HOON);
+        assertEquals(2, changeCount.get());
+        List<Client> expectedClients = new ArrayList<>(List.of(clients.get(5), editedClient));
+        clients.stream().filter(client -> client != clients.get(5) && client != clients.get(2))
+                .forEach(expectedClients::add);
+        expectedClients.add(HOON);
+        assertEquals(expectedClients, sortedClients.asUnmodifiableObservableList());
+    }
+
+    /**
+     * Returns a counter of the change events fired by {@code sortedClients} from now on.
+     */
+    private AtomicInteger countChanges() {
+        AtomicInteger changeCount = new AtomicInteger();
+        sortedClients.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Client>) change -> changeCount.incrementAndGet());
+        return changeCount;
+    }
+
+    /**
+     * Returns {@code count} distinct clients, with ids from 100.
+     */
+    private static List<Client> createClients(int count) {
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            clients.add(new ClientBuilder().withClientId(String.valueOf(100 + i)).withName("Client " + i)
+                    .withEmail("client" + i + "@example.com").build());
+        }
+        return clients;
+    }
+}
@@ -4,18 +4,29 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.AMY;
+import static seedu.address.testutil.TypicalClients.BENSON;
 import static seedu.address.testutil.TypicalClients.BOB;
+import static seedu.address.testutil.TypicalClients.CARL;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.model.client.exceptions.ClientNotFoundException;
 import seedu.address.model.client.exceptions.DuplicateClientException;
 import seedu.address.testutil.ClientBuilder;
@@ -25,6 +36,11 @@ public class UniqueClientListTest {
 
     private final UniqueClientList uniqueClientList = new UniqueClientList();
 
+    @BeforeEach
+    public void setUp() {
+        uniqueClientList.setIndexCheckEnabled(true);
+    }
+
     @Test
     public void contains_nullClient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueClientList.contains(null));
@@ -60,6 +76,56 @@ public class UniqueClientListTest {
         assertThrows(DuplicateClientException.class, () -> uniqueClientList.add(ALICE));
     }
 
+    @Test
+    public void hasClientId_clientNotInList_returnsFalse() {
+        assertFalse(uniqueClientList.hasClientId(ALICE.getClientId()));
+    }
+
+    @Test
+    public void hasClientId_clientInList_returnsTrue() {
+        uniqueClientList.add(ALICE);
+        assertTrue(uniqueClientList.hasClientId(ALICE.getClientId()));
+    }
+
+    @Test
+    public void getClient_clientNotInList_throwsClientNotFoundException() {
+        assertThrows(ClientNotFoundException.class, () -> uniqueClientList.getClient(ALICE.getClientId()));
+    }
+
+    @Test
+    public void getClient_clientInList_returnsClient() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BOB);
+        assertEquals(BOB, uniqueClientList.getClient(BOB.getClientId()));
+    }
+
+    @Test
+    public void removeAll_existingClients_indexUpdated() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BOB);
+        uniqueClientList.removeAll(List.of(ALICE.getClientId()));
+        assertFalse(uniqueClientList.hasClientId(ALICE.getClientId()));
+        assertEquals(BOB, uniqueClientList.getClient(BOB.getClientId()));
+        assertTrue(uniqueClientList.isIndexConsistent());
+    }
+
+    @Test
+    public void removeAll_multipleClients_firesSingleChange() {
+        uniqueClientList.setClients(List.of(ALICE, BENSON, CARL));
+        AtomicInteger changeCount = countChanges();
+        uniqueClientList.removeAll(List.of(ALICE.getClientId(), CARL.getClientId()));
+        assertEquals(1, changeCount.get());
+        assertEquals(List.of(BENSON), uniqueClientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_clientNotInList_throwsClientNotFoundException() {
+        uniqueClientList.add(ALICE);
+        assertThrows(ClientNotFoundException.class, () -> uniqueClientList
+            .removeAll(List.of(ALICE.getClientId(), BOB.getClientId())));
+        assertTrue(uniqueClientList.hasClientId(ALICE.getClientId()));
+    }
+
     @Test
     public void setClient_nullTargetClient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueClientList
@@ -120,6 +186,38 @@ public class UniqueClientListTest {
             .setAll(List.of(ALICE.getClientId()), new EditClientDescriptorBuilder(BOB).build()));
     }
 
+    @Test
+    public void setClient_multipleClients_firesSingleChange() {
+        uniqueClientList.setClients(List.of(ALICE, BENSON, CARL));
+        AtomicInteger changeCount = countChanges();
+        List<Client> editedClients = uniqueClientList.setAll(List.of(CARL.getClientId(), ALICE.getClientId()),
+            new EditClientDescriptorBuilder().withAddress(VALID_ADDRESS_BOB).build());
+        assertEquals(1, changeCount.get());
+        assertEquals(List.of(new ClientBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build(),
+            new ClientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build()), editedClients);
+        assertEquals(editedClients.get(1), uniqueClientList.getClient(ALICE.getClientId()));
+        assertEquals(BENSON, uniqueClientList.getClient(BENSON.getClientId()));
+    }
+
+    @Test
+    public void setClient_editedClientsHaveSameIdentity_listUnchanged() {
+        uniqueClientList.setClients(List.of(ALICE, BENSON));
+        assertThrows(DuplicateClientException.class, () -> uniqueClientList
+            .setAll(List.of(ALICE.getClientId(), BENSON.getClientId()),
+                new EditClientDescriptorBuilder().withName(VALID_NAME_BOB).withEmail(VALID_EMAIL_BOB).build()));
+        assertEquals(List.of(ALICE, BENSON), uniqueClientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setClient_editedClientTakesIdentityFreedByEdit_success() {
+        uniqueClientList.setClients(List.of(ALICE, BOB));
+        uniqueClientList.setAll(List.of(BOB.getClientId()),
+            new EditClientDescriptorBuilder().withName(VALID_NAME_AMY).build());
+        uniqueClientList.setAll(List.of(ALICE.getClientId()),
+            new EditClientDescriptorBuilder().withName(VALID_NAME_BOB).withEmail(VALID_EMAIL_BOB).build());
+        assertTrue(uniqueClientList.contains(BOB));
+    }
+
     @Test
     public void remove_nullClient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueClientList.remove(null));
@@ -173,12 +271,84 @@ public class UniqueClientListTest {
         assertThrows(DuplicateClientException.class, () -> uniqueClientList.setClients(listWithDuplicateClients));
     }
 
+    @Test
+    public void setClients_listWithSameClientId_throwsDuplicateClientException() {
+        Client bobWithAliceId = new ClientBuilder(BOB).withClientId("0").build();
+        List<Client> listWithDuplicateClients = Arrays.asList(ALICE, bobWithAliceId);
+        assertThrows(DuplicateClientException.class, () -> uniqueClientList.setClients(listWithDuplicateClients));
+    }
+
+    @Test
+    public void setClients_listWithSameNameAndEmail_throwsDuplicateClientException() {
+        Client aliceWithBobId = new ClientBuilder(ALICE).withClientId("10").build();
+        List<Client> listWithDuplicateClients = Arrays.asList(ALICE, aliceWithBobId);
+        assertThrows(DuplicateClientException.class, () -> uniqueClientList.setClients(listWithDuplicateClients));
+    }
+
+    @Test
+    public void add_sameIdentityAfterRemoval_success() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.remove(ALICE);
+        Client aliceWithBobId = new ClientBuilder(ALICE).withClientId("10").build();
+        uniqueClientList.add(aliceWithBobId);
+        assertTrue(uniqueClientList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueClientList.asUnmodifiableObservableList().remove(0));
     }
 
+    /**
+     * Returns a counter of the change events fired by {@code uniqueClientList} from now on.
+     */
+    private AtomicInteger countChanges() {
+        AtomicInteger changeCount = new AtomicInteger();
+        uniqueClientList.asUnmodifiableObservableList()
+            .addListener((ListChangeListener<Client>) change -> changeCount.incrementAndGet());
+        return changeCount;
+    }
+
+    @Test
+    public void getNextMeetingExpiry_noMeetings_returnsEmpty() {
+        uniqueClientList.add(BOB);
+        assertEquals(Optional.empty(), uniqueClientList.getNextMeetingExpiry());
+    }
+
+    @Test
+    public void getNextMeetingExpiry_clientsEditedAndRemoved_returnsEarliestMeetingEnd() {
+        uniqueClientList.setClients(List.of(ALICE, BENSON, CARL));
+        assertEquals(Optional.of(LocalDateTime.of(2021, 11, 30, 12, 0)), uniqueClientList.getNextMeetingExpiry());
+
+        uniqueClientList.setAll(List.of(CARL.getClientId()),
+            new EditClientDescriptorBuilder().withNextMeeting("26-11-2022", "09:00", "10:30", "Office").build());
+        assertEquals(Optional.of(LocalDateTime.of(2022, 11, 24, 12, 0)), uniqueClientList.getNextMeetingExpiry());
+
+        uniqueClientList.removeAll(List.of(ALICE.getClientId()));
+        assertEquals(Optional.of(LocalDateTime.of(2022, 11, 25, 12, 0)), uniqueClientList.getNextMeetingExpiry());
+    }
+
+    @Test
+    public void setAll_meetingExpiriesRebuiltDuringEdit_everyEditedMeetingTracked() {
+        uniqueClientList.setClients(List.of(ALICE, BENSON, CARL));
+        // stale entries left by edits bring the heap to twice the clients
+        for (String date : List.of("01-12-2022", "02-12-2022", "03-12-2022")) {
+            uniqueClientList.setAll(List.of(CARL.getClientId()),
+                new EditClientDescriptorBuilder().withNextMeeting(date, "09:00", "10:30", "Office").build());
+        }
+
+        // the heap crosses the threshold partway through tracking the edited clients
+        uniqueClientList.setAll(List.of(ALICE.getClientId(), BENSON.getClientId()),
+            new EditClientDescriptorBuilder().withNextMeeting("01-06-2022", "09:00", "10:30", "Office").build());
+        assertEquals(Optional.of(LocalDateTime.of(2022, 6, 1, 10, 30)), uniqueClientList.getNextMeetingExpiry());
+
+        uniqueClientList.removeAll(List.of(BENSON.getClientId()));
+        assertEquals(Optional.of(LocalDateTime.of(2022, 6, 1, 10, 30)), uniqueClientList.getNextMeetingExpiry());
+        uniqueClientList.removeAll(List.of(ALICE.getClientId()));
+        assertEquals(Optional.of(LocalDateTime.of(2022, 12, 3, 10, 30)), uniqueClientList.getNextMeetingExpiry());
+    }
+
     @Test
     public void updateLastMetDate_updatesCorrectly() {
         Client expectedAlice = new ClientBuilder(ALICE).withNextMeeting(NextMeeting.NO_NEXT_MEETING).build();
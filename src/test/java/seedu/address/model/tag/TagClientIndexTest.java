@@ -0,0 +1,64 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.client.Client;
+import seedu.address.testutil.ClientBuilder;
+
+public class TagClientIndexTest {
+
+    private final TagClientIndex index = new TagClientIndex();
+
+    @Test
+    public void add_nullClient_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getClientsWithTag_keywordInTagName_returnsTaggedClients() {
+        index.add(ALICE); // friends
+        index.add(BENSON); // owesMoney, friends
+        index.add(CARL); // no tags
+
+        BitSet friends = index.getClientsWithTag("FRIEND");
+        assertTrue(index.contains(friends, ALICE));
+        assertTrue(index.contains(friends, BENSON));
+        assertFalse(index.contains(friends, CARL));
+
+        BitSet owesMoney = index.getClientsWithTag("money");
+        assertFalse(index.contains(owesMoney, ALICE));
+        assertTrue(index.contains(owesMoney, BENSON));
+
+        assertTrue(index.getClientsWithTag("enemies").isEmpty());
+        assertEquals(3, index.getAllClients().cardinality());
+    }
+
+    @Test
+    public void remove_indexedClient_clearsClientAndReusesOrdinal() {
+        index.add(ALICE);
+        index.add(BENSON);
+        long version = index.getVersion();
+
+        index.remove(ALICE);
+        assertNotEquals(version, index.getVersion());
+        assertFalse(index.contains(index.getAllClients(), ALICE));
+        assertFalse(index.contains(index.getClientsWithTag("friends"), ALICE));
+
+        Client editedAlice = new ClientBuilder(ALICE).withTags("vip").build();
+        index.add(editedAlice);
+        assertEquals(2, index.getAllClients().length());
+        assertTrue(index.contains(index.getClientsWithTag("vip"), editedAlice));
+        assertFalse(index.contains(index.getClientsWithTag("friends"), editedAlice));
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.client.Client;
+import seedu.address.testutil.ClientBuilder;
+
+public class TagExpressionTest {
+
+    private final Client vipRetiree = new ClientBuilder().withClientId("0").withTags("vip", "retiree").build();
+    private final Client inactiveVipRetiree = new ClientBuilder().withClientId("1").withName("Bob")
+        .withEmail("bob@example.com").withTags("vip", "retiree", "inactive").build();
+    private final Client vip = new ClientBuilder().withClientId("2").withName("Carl")
+        .withEmail("carl@example.com").withTags("vip").build();
+    private final Client untagged = new ClientBuilder().withClientId("3").withName("Dan")
+        .withEmail("dan@example.com").withTags().build();
+    private final TagClientIndex index = new TagClientIndex();
+
+    @BeforeEach
+    public void setUp() {
+        List.of(vipRetiree, inactiveVipRetiree, vip, untagged).forEach(index::add);
+    }
+
+    @Test
+    public void constructor_invalidTagExpression_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TagExpression(List.of("vip&")));
+    }
+
+    @Test
+    public void isValidTagExpression() {
+        assertTrue(TagExpression.isValidTagExpression("vip"));
+        assertTrue(TagExpression.isValidTagExpression("-inactive"));
+        assertTrue(TagExpression.isValidTagExpression("vip&t/retiree"));
+        assertTrue(TagExpression.isValidTagExpression("vip|t/-retiree&inactive"));
+
+        assertFalse(TagExpression.isValidTagExpression(""));
+        assertFalse(TagExpression.isValidTagExpression("vip retiree"));
+        assertFalse(TagExpression.isValidTagExpression("vip&&retiree"));
+        assertFalse(TagExpression.isValidTagExpression("--vip"));
+        assertFalse(TagExpression.isValidTagExpression("|vip"));
+    }
+
+    @Test
+    public void evaluate_andNot_returnsMatchingClients() {
+        assertMatches(new TagExpression(List.of("vip&t/retiree", "-inactive")), vipRetiree);
+        assertMatches(new TagExpression(List.of("vip&t/retiree")), vipRetiree, inactiveVipRetiree);
+        assertMatches(new TagExpression(List.of("-vip")), untagged);
+    }
+
+    @Test
+    public void evaluate_or_returnsMatchingClients() {
+        assertMatches(new TagExpression(List.of("inactive|t/-retiree")), inactiveVipRetiree, vip, untagged);
+        assertMatches(new TagExpression(List.of("retiree&-inactive|t/-vip")), vipRetiree, untagged);
+    }
+
+    @Test
+    public void equals() {
+        TagExpression tagExpression = new TagExpression(List.of("vip", "-inactive"));
+
+        assertTrue(tagExpression.equals(tagExpression));
+        assertTrue(tagExpression.equals(new TagExpression(List.of("vip", "-inactive"))));
+        assertFalse(tagExpression.equals(null));
+        assertFalse(tagExpression.equals(new TagExpression(List.of("vip"))));
+    }
+
+    private void assertMatches(TagExpression tagExpression, Client... expectedClients) {
+        BitSet matchingClients = tagExpression.evaluate(index);
+        assertEquals(expectedClients.length, matchingClients.cardinality());
+        for (Client client : expectedClients) {
+            assertTrue(index.contains(matchingClients, client));
+        }
+    }
+}
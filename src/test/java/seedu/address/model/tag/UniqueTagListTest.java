@@ -2,6 +2,7 @@ package seedu.address.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -10,6 +11,8 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.model.tag.exceptions.DuplicateTagException;
 import seedu.address.model.tag.exceptions.TagNotFoundException;
 
@@ -30,6 +33,26 @@ public class UniqueTagListTest {
         assertThrows(DuplicateTagException.class, () -> tags.add(tagB));
     }
 
+    @Test
+    public void addAll() {
+        // null -> throws exception
+        assertThrows(NullPointerException.class, () -> tags.addAll(null));
+
+        List<ListChangeListener.Change<? extends Tag>> changes = new ArrayList<>();
+        tags.asUnmodifiableObservableList().addListener((ListChangeListener<Tag>) changes::add);
+        tags.addAll(List.of(tagA, tagC));
+        assertEquals(1, changes.size());
+        assertEquals(List.of(tagA, tagC), tags.asUnmodifiableObservableList());
+        assertSame(tagA, tags.getTag("hi"));
+
+        // duplicate tag in list or in tags to add -> throws exception, list unchanged
+        Tag tagD = new Tag("hello");
+        assertThrows(DuplicateTagException.class, () -> tags.addAll(List.of(tagD, tagB)));
+        assertThrows(DuplicateTagException.class, () -> tags.addAll(List.of(tagD, new Tag("hello"))));
+        assertFalse(tags.hasTagName("hello"));
+        assertEquals(1, changes.size());
+    }
+
     @Test
     public void hasTagName() {
         tags.add(tagA);
@@ -63,10 +86,46 @@ public class UniqueTagListTest {
         assertEquals(tags, new UniqueTagList());
     }
 
+    @Test
+    public void addReference_removeReference() {
+        // first reference adds the tag
+        tags.addReference(tagA);
+        assertTrue(tags.hasTagName("hi"));
+
+        // later references to the same name keep the first tag
+        tags.addReference(tagB);
+        assertEquals(2, tags.getReferenceCount("hi"));
+        assertSame(tagA, tags.getTag("hi"));
+
+        // tag is removed only with its last reference
+        tags.removeReference(tagA);
+        assertTrue(tags.hasTagName("hi"));
+        tags.removeReference(tagB);
+        assertFalse(tags.hasTagName("hi"));
+        assertEquals(0, tags.getReferenceCount("hi"));
+
+        // unreferenced tag is ignored
+        tags.removeReference(tagC);
+        assertEquals(new UniqueTagList(), tags);
+    }
+
+    @Test
+    public void setTags_referencedTagNotInList_tagKept() {
+        tags.addReference(tagC);
+        tags.setTags(new ArrayList<Tag>(List.of(tagA)));
+        assertTrue(tags.hasTagName("hi"));
+        assertTrue(tags.hasTagName("bye"));
+    }
+
     @Test
     public void setTags() {
         // duplicate tags
         assertThrows(DuplicateTagException.class, () -> tags.setTags(new ArrayList<Tag>(List.of(tagA, tagB, tagC))));
+
+        // unique tags
+        tags.setTags(new ArrayList<Tag>(List.of(tagA, tagC)));
+        assertTrue(tags.hasTagName("hi"));
+        assertTrue(tags.hasTagName("bye"));
     }
 
     @Test
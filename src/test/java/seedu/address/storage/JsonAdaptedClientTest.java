@@ -1,18 +1,23 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.storage.JsonAdaptedClient.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.BENSON;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.client.Address;
+import seedu.address.model.client.Client;
 import seedu.address.model.client.DisposableIncome;
 import seedu.address.model.client.Email;
 import seedu.address.model.client.LastMet;
@@ -57,6 +62,34 @@ public class JsonAdaptedClientTest {
         assertEquals(BENSON, client.toModelType());
     }
 
+    @Test
+    public void toModelType_equalFieldValues_sharesFieldInstances() throws Exception {
+        Client benson = new JsonAdaptedClient(BENSON).toModelType();
+        Client otherBenson = new JsonAdaptedClient(BENSON).toModelType();
+        assertSame(benson.getAddress(), otherBenson.getAddress());
+        assertSame(benson.getRiskAppetite(), otherBenson.getRiskAppetite());
+        assertSame(benson.getDisposableIncome(), otherBenson.getDisposableIncome());
+        assertSame(benson.getCurrentPlan(), otherBenson.getCurrentPlan());
+        assertSame(benson.getLastMet(), otherBenson.getLastMet());
+    }
+
+    @Test
+    public void toModelType_tenThousandClients_keepsOneInstancePerDistinctValue() throws Exception {
+        Set<Object> fieldInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < 10000; i++) {
+            Client client = new JsonAdaptedClient(String.valueOf(i), VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                    VALID_ADDRESS, String.valueOf(i % 5 + 1), VALID_DISPOSABLEINCOME, VALID_CURRENTPLAN,
+                    VALID_LASTMET, VALID_NEXTMEETING, VALID_TAGS).toModelType();
+            fieldInstances.add(client.getAddress());
+            fieldInstances.add(client.getRiskAppetite());
+            fieldInstances.add(client.getDisposableIncome());
+            fieldInstances.add(client.getCurrentPlan());
+            fieldInstances.add(client.getLastMet());
+        }
+        // one address, five risk appetites, one disposable income, one current plan and one last met
+        assertEquals(9, fieldInstances.size());
+    }
+
     @Test
     public void toModelType_validClientDetailsBuildClient_returnsClient() throws Exception {
         JsonAdaptedClient client =
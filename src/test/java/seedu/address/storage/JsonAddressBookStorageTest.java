@@ -2,22 +2,31 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
 import static seedu.address.testutil.TypicalClients.HOON;
 import static seedu.address.testutil.TypicalClients.IDA;
 import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.EditClientDescriptorBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data",
@@ -87,6 +96,148 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_prettyPrinted_sameAsSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath, true).saveAddressBook(original);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original, readGeneration(filePath))),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_compact_readBackSuccessfully() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_sameAddressBookAgain_changesAppendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        String fileContent = FileUtil.readFromFile(filePath);
+
+        original.addClient(HOON);
+        original.removeClient(ALICE);
+        original.setAllClients(List.of(BENSON.getClientId()),
+                new EditClientDescriptorBuilder().withPhone("12345678").build());
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        assertEquals(fileContent, FileUtil.readFromFile(filePath));
+        assertTrue(Files.exists(new JsonAddressBookJournal(filePath).getJournalPath()));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherAddressBook_fileRewritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        original.addClient(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        AddressBook other = new AddressBook();
+        other.addClient(IDA);
+        jsonAddressBookStorage.saveAddressBook(other);
+
+        assertFalse(Files.exists(new JsonAddressBookJournal(filePath).getJournalPath()));
+        assertEquals(other, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastCompactionThreshold_fileRewritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true, 0);
+        jsonAddressBookStorage.saveAddressBook(original);
+        original.addClient(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+        // the save after the journal grows past the threshold takes the clients to compact with
+        original.removeClient(ALICE);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        // reading waits for the compaction to finish
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        JsonAddressBookJournal journal = new JsonAddressBookJournal(filePath);
+        assertFalse(Files.exists(journal.getJournalPath()));
+        assertFalse(Files.exists(journal.getCompactingJournalPath()));
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original, readGeneration(filePath))),
+                FileUtil.readFromFile(filePath));
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_journalLeftBesideRewrittenFile_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        original.addClient(HOON);
+        original.removeClient(ALICE);
+        jsonAddressBookStorage.saveAddressBook(original);
+        Path journalPath = new JsonAddressBookJournal(filePath).getJournalPath();
+        byte[] journal = Files.readAllBytes(journalPath);
+
+        // the app stopped after the file was rewritten with another address book, before the journal was cleared
+        AddressBook other = new AddressBook();
+        other.addClient(ALICE);
+        other.addClient(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(other);
+        Files.write(journalPath, journal);
+
+        assertEquals(other, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_compactionNotFinished_journalsReplayed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        original.addClient(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        // the app stopped before the file was rewritten with the changes in the compacting journal
+        JsonAddressBookJournal journal = new JsonAddressBookJournal(filePath);
+        journal.startCompaction();
+        original.removeClient(ALICE);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastJournalLine_lastSaveIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        original.addClient(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        Path journalPath = new JsonAddressBookJournal(filePath).getJournalPath();
+        Files.write(journalPath, "[{\"removed\":[\"0\"".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        Files.write(journalPath, "\n[]\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertThrows(DataConversionException.class, () -> jsonAddressBookStorage.readAddressBook());
+    }
+
+    /**
+     * Returns the generation of the address book file at {@code filePath}.
+     */
+    private long readGeneration(Path filePath) throws DataConversionException {
+        return JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().getGeneration();
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -3,18 +3,26 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.testutil.TypicalClients;
 
 public class JsonSerializableAddressBookTest {
 
+    @TempDir
+    public Path temporaryFolder;
+
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data",
             "JsonSerializableAddressBookTest");
     private static final Path TYPICAL_CLIENTS_FILE = TEST_DATA_FOLDER.resolve("typicalClientsAddressBook.json");
@@ -45,4 +53,41 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readModelType_typicalClientsFile_sameAsToModelType() throws Exception {
+        AddressBook addressBookFromFile;
+        try (JsonParser parser = JsonUtil.createParser(TYPICAL_CLIENTS_FILE)) {
+            addressBookFromFile = JsonSerializableAddressBook.readModelType(parser);
+        }
+        AddressBook expectedAddressBook = JsonUtil.readJsonFile(TYPICAL_CLIENTS_FILE,
+                JsonSerializableAddressBook.class).get().toModelType();
+        assertEquals(expectedAddressBook, addressBookFromFile);
+        assertEquals(expectedAddressBook.getTagList(), addressBookFromFile.getTagList());
+        assertEquals(expectedAddressBook.getClientCounter(), addressBookFromFile.getClientCounter());
+    }
+
+    @Test
+    public void readModelType_invalidClientFile_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(INVALID_CLIENT_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_duplicateClients_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(DUPLICATE_CLIENT_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLIENT, () ->
+                    JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_clientsNotInList_throwsIoException() throws Exception {
+        Path file = temporaryFolder.resolve("clientsNotInList.json");
+        FileUtil.writeToFile(file, "{ \"clients\" : { } }");
+        try (JsonParser parser = JsonUtil.createParser(file)) {
+            assertThrows(IOException.class, () -> JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
 }
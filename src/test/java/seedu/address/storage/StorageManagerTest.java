@@ -2,9 +2,14 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.HOON;
 import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +19,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.SaveCountingAddressBookStorageStub;
 
 public class StorageManagerTest {
 
@@ -60,6 +66,60 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_withSaveDelay_savesCoalescedInBackground() throws Exception {
+        SaveCountingAddressBookStorageStub addressBookStorage =
+                new SaveCountingAddressBookStorageStub(getTempFilePath("ab"));
+        StorageManager writeBehindStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60000);
+
+        AddressBook original = getTypicalAddressBook();
+        for (int i = 0; i < 20; i++) {
+            writeBehindStorageManager.saveAddressBook(original);
+        }
+        AddressBook saved = new AddressBook(original);
+        writeBehindStorageManager.saveAddressBook(original);
+        // changes after the save are not saved
+        original.addClient(HOON);
+        assertEquals(0, addressBookStorage.getSaveCount());
+
+        writeBehindStorageManager.awaitPendingSaves();
+        assertEquals(1, addressBookStorage.getSaveCount());
+        assertEquals(saved, new AddressBook(writeBehindStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_withSaveDelay_pendingSaveWrittenFirst() throws Exception {
+        StorageManager writeBehindStorageManager = new StorageManager(
+                new JsonAddressBookStorage(getTempFilePath("ab")), new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                60000);
+        AddressBook original = getTypicalAddressBook();
+        writeBehindStorageManager.saveAddressBook(original);
+        original.removeClient(ALICE);
+        writeBehindStorageManager.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(writeBehindStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_withSaveDelayFails_failureHandlerTold() throws Exception {
+        IOException saveFailure = new IOException("dummy exception");
+        AddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void writeRecordedSaves() throws IOException {
+                throw saveFailure;
+            }
+        };
+        StorageManager writeBehindStorageManager = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60000);
+        List<IOException> failures = new ArrayList<>();
+        writeBehindStorageManager.setSaveFailureHandler(failures::add);
+
+        writeBehindStorageManager.saveAddressBook(getTypicalAddressBook());
+        writeBehindStorageManager.awaitPendingSaves();
+        assertEquals(List.of(saveFailure), failures);
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,28 @@
+package seedu.address.testutil;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * A {@code JsonAddressBookStorage} counting the times the saves it recorded are written to its file, whether saved
+ * directly or written in the background.
+ */
+public class SaveCountingAddressBookStorageStub extends JsonAddressBookStorage {
+    private int saveCount;
+
+    public SaveCountingAddressBookStorageStub(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    public synchronized void writeRecordedSaves() throws IOException {
+        saveCount++;
+        super.writeRecordedSaves();
+    }
+
+    public synchronized int getSaveCount() {
+        return saveCount;
+    }
+}